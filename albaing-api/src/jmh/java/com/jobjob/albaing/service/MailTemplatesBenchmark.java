@@ -0,0 +1,39 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.JobResultMail;
+import com.jobjob.albaing.model.vo.VerificationCodeMail;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 템플릿 렌더링 벤치마크 (템플릿 캐시가 채워진 상태의 1건 렌더링 시간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailTemplatesBenchmark {
+
+    private MailTemplates mailTemplates;
+    private JobResultMail jobResultMail;
+    private VerificationCodeMail verificationCodeMail;
+
+    @Setup
+    public void setUp() {
+        mailTemplates = new MailTemplates();
+        mailTemplates.warmUp();
+        jobResultMail = new JobResultMail(1L, "홍길동", "주말 카페 바리스타 모집", "알바잉커피", true, LocalDate.now());
+        verificationCodeMail = new VerificationCodeMail("123456", 5);
+    }
+
+    @Benchmark
+    public String jobResult() {
+        return mailTemplates.jobResult(jobResultMail);
+    }
+
+    @Benchmark
+    public String verificationCode() {
+        return mailTemplates.verificationCode(verificationCodeMail);
+    }
+}
@@ -2,6 +2,7 @@ package com.jobjob.albaing.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
@@ -53,6 +54,13 @@ public class DBConfig {
         return sessionFactoryBean.getObject();
     }
 
+    // 매퍼 XML 로 선택한 2차 캐시(MybatisCache) 의 namespace 별 적중률 등을 actuator 지표로 등록
+    // (sessionFactory 를 인자로 받아 매퍼 XML 을 모두 읽은 뒤에 등록되게 한다)
+    @Bean
+    public MeterBinder mybatisCacheMetrics(SqlSessionFactory sessionFactory) {
+        return MybatisCache::bindAll;
+    }
+
     @Bean
     public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory factory) {
         return new SqlSessionTemplate(factory);
@@ -0,0 +1,134 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.service.TinyLfuCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MyBatis 2차 캐시 구현 (매퍼 XML 에서 namespace 별로 선택)
+ * 크기는 추정 메모리 기준으로 제한하고 교체 정책은 W-TinyLFU, 항목은 ttlSeconds 가 지나면 만료된다.
+ *
+ * <pre>
+ * &lt;cache type="com.jobjob.albaing.config.MybatisCache"&gt;
+ *     &lt;property name="maxWeight" value="2097152"/&gt;     추정 바이트 (기본 4MB)
+ *     &lt;property name="ttlSeconds" value="600"/&gt;        기본 300초
+ *     &lt;property name="flushedBy" value="com.jobjob.albaing.mapper.AdminMapper"/&gt;
+ * &lt;/cache&gt;
+ * </pre>
+ *
+ * 같은 namespace 의 insert/update/delete 는 MyBatis 가 커밋 시 캐시를 비운다.
+ * 같은 테이블을 다른 매퍼에서도 수정하면 flushedBy 에 그 namespace 들을 (쉼표 구분) 적어 두면
+ * MybatisCacheFlushInterceptor 가 그 매퍼의 쓰기가 커밋될 때 이 캐시도 비운다.
+ * 조회 결과 객체를 복사하지 않고 그대로 돌려주므로 (readOnly) 호출하는 쪽에서 결과를 수정하면 안 된다.
+ */
+public class MybatisCache implements Cache, InitializingObject {
+
+    private static final Map<String, MybatisCache> CACHES = new ConcurrentHashMap<>();
+
+    // 결과 목록 한 행의 추정 크기 (DTO + 문자열 필드)
+    private static final int ROW_WEIGHT = 512;
+    private static final int BASE_WEIGHT = 128;
+
+    private final String id;
+
+    private long maxWeight = 4 * 1024 * 1024L;
+    private long ttlSeconds = 300;
+    private String flushedBy = "";
+
+    private Set<String> flushedByNamespaces = Set.of();
+    private TinyLfuCache<Object, Object> cache;
+
+    public MybatisCache(String id) {
+        this.id = id;
+    }
+
+    // <property> 값을 모두 설정한 뒤 MyBatis 가 호출
+    @Override
+    public void initialize() {
+        cache = new TinyLfuCache<>(maxWeight, ttlSeconds * 1000L, MybatisCache::weigh);
+        Set<String> namespaces = new HashSet<>();
+        for (String namespace : flushedBy.split(",")) {
+            if (!namespace.isBlank()) {
+                namespaces.add(namespace.trim());
+            }
+        }
+        flushedByNamespaces = Set.copyOf(namespaces);
+        CACHES.put(id, this);
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public void setFlushedBy(String flushedBy) {
+        this.flushedBy = flushedBy;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        // 트랜잭션 캐시가 조회 실패 항목을 null 로 넣는 경우는 저장하지 않는다
+        if (value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        cache.remove(key);
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public int getSize() {
+        return (int) cache.size();
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> rows) {
+            return BASE_WEIGHT + rows.size() * ROW_WEIGHT;
+        }
+        return BASE_WEIGHT + ROW_WEIGHT;
+    }
+
+    // namespace 의 쓰기로 함께 비워야 하는 캐시 목록
+    static List<MybatisCache> flushedBy(String namespace) {
+        List<MybatisCache> caches = new ArrayList<>();
+        for (MybatisCache cache : CACHES.values()) {
+            if (cache.flushedByNamespaces.contains(namespace)) {
+                caches.add(cache);
+            }
+        }
+        return caches;
+    }
+
+    // namespace 별 cache.gets / cache.hit.ratio 등을 cache=mybatis.<매퍼 이름> 태그로 등록
+    static void bindAll(MeterRegistry registry) {
+        for (MybatisCache cache : CACHES.values()) {
+            String mapperName = cache.id.substring(cache.id.lastIndexOf('.') + 1);
+            cache.cache.bindTo(registry, "mybatis." + mapperName);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobjob.albaing.config;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다른 namespace 의 쓰기로 MybatisCache 를 비우는 플러그인 (mybatis-config.xml 에 등록)
+ * 쓰기 문장이 실행되면 그 namespace 를 flushedBy 로 지정한 캐시를 세션(Executor) 별로 모아 두었다가
+ * 커밋될 때 비운다. 롤백되거나 커밋 없이 닫히면 비우지 않는다 (같은 namespace 의 MyBatis 기본 동작과 같음).
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
+})
+public class MybatisCacheFlushInterceptor implements Interceptor {
+
+    private final Map<Executor, Set<MybatisCache>> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod().getName()) {
+            case "update" -> {
+                MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+                if (ms.isFlushCacheRequired()) {
+                    String namespace = ms.getId().substring(0, ms.getId().lastIndexOf('.'));
+                    List<MybatisCache> caches = MybatisCache.flushedBy(namespace);
+                    if (!caches.isEmpty()) {
+                        pending.computeIfAbsent(executor, k -> ConcurrentHashMap.newKeySet()).addAll(caches);
+                    }
+                }
+                return invocation.proceed();
+            }
+            case "commit" -> {
+                Object result = invocation.proceed();
+                Set<MybatisCache> caches = pending.remove(executor);
+                if (caches != null) {
+                    caches.forEach(MybatisCache::clear);
+                }
+                return result;
+            }
+            default -> {
+                pending.remove(executor);
+                return invocation.proceed();
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.jobjob.albaing.service.AdminServiceImpl;
 import com.jobjob.albaing.service.ResumeServiceImpl;
 import com.jobjob.albaing.service.UserServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -406,24 +408,46 @@ public class AdminController {
         return ResponseEntity.ok(jobPosts);
     }
 
-    // 직종별 채용공고 통계
+    // 직종별 채용공고 통계 (from, to 를 주면 그 기간의 증감)
     @GetMapping("/stats/job-categories")
-    public ResponseEntity<List<Map<String, Object>>> getJobCategoryStats() {
-        List<Map<String, Object>> stats = adminService.getJobCategoryStats();
+    public ResponseEntity<List<Map<String, Object>>> getJobCategoryStats(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<Map<String, Object>> stats = adminService.getJobCategoryStats(from, to);
         return ResponseEntity.ok(stats);
     }
 
-    // 고용형태별 채용공고 통계
+    // 고용형태별 채용공고 통계 (from, to 를 주면 그 기간의 증감)
     @GetMapping("/stats/job-types")
-    public ResponseEntity<List<Map<String, Object>>> getJobTypeStats() {
-        List<Map<String, Object>> stats = adminService.getJobTypeStats();
+    public ResponseEntity<List<Map<String, Object>>> getJobTypeStats(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<Map<String, Object>> stats = adminService.getJobTypeStats(from, to);
         return ResponseEntity.ok(stats);
     }
 
-    // 지역별 회원 통계
+    // 지역별 회원 통계 (from, to 를 주면 그 기간의 증감)
     @GetMapping("/stats/user-regions")
-    public ResponseEntity<List<Map<String, Object>>> getUserRegionStats() {
-        List<Map<String, Object>> stats = adminService.getUserRegionStats();
+    public ResponseEntity<List<Map<String, Object>>> getUserRegionStats(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<Map<String, Object>> stats = adminService.getUserRegionStats(from, to);
         return ResponseEntity.ok(stats);
     }
+
+    // 통계 추이 (구간별 증감, 기본은 최근 30일 일 단위 / granularity=hour 는 최근 7일까지만 있음)
+    @GetMapping("/stats/{dimension}/trend")
+    public ResponseEntity<List<Map<String, Object>>> getStatsTrend(
+        @PathVariable String dimension,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "day") String granularity) {
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from == null ? end.minusDays(30) : from;
+        try {
+            return ResponseEntity.ok(adminService.getStatsTrend(dimension, start, end, granularity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
\ No newline at end of file
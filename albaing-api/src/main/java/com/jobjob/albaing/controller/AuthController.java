@@ -4,6 +4,7 @@ import com.jobjob.albaing.dto.Company;
 import com.jobjob.albaing.dto.User;
 import com.jobjob.albaing.model.vo.VerificationRequest;
 import com.jobjob.albaing.service.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -159,9 +160,16 @@ public class AuthController {
 
     /**************************** 이메일 인증 ***********************************/
     @PostMapping("/sendCode")
-    public ResponseEntity<Map<String, Object>> sendCode(@RequestBody VerificationRequest vr) {
+    public ResponseEntity<Map<String, Object>> sendCode(@RequestBody VerificationRequest vr, HttpServletRequest request) {
         Map<String, Object> response = new HashMap<>();
 
+        // 같은 이메일, 같은 IP 의 연속 요청 제한 (프록시 뒤에서는 forward-headers-strategy 로 복원한 클라이언트 주소)
+        if (!verificationService.tryAcquireCodeRequest(vr.getEmail(), request.getRemoteAddr())) {
+            response.put("status", "error");
+            response.put("message", "인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        }
+
         try {
             String email = vr.getEmail();
             String code = verificationService.randomCode();
@@ -170,8 +178,13 @@ public class AuthController {
             verificationService.sendEmail(email, code);
 
             response.put("status", "success");
-            response.put("message", "이메일을 성공적으로 보냈습니다: " + email);
+            response.put("message", "인증번호 이메일 발송을 요청했습니다: " + email);
             return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            // 발송 대기열이 가득 참
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
         } catch (Exception e) {
             response.put("status", "error");
             response.put("message", "이메일 전송 중 오류가 발생했습니다: " + e.getMessage());
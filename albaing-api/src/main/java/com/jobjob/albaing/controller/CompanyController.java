@@ -2,12 +2,14 @@ package com.jobjob.albaing.controller;
 
 import com.jobjob.albaing.dto.Company;
 import com.jobjob.albaing.service.CompanyServiceImpl;
+import com.jobjob.albaing.service.EntityVersionCache;
 import com.jobjob.albaing.service.FileService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -22,6 +24,9 @@ public class CompanyController {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private EntityVersionCache entityVersionCache;
+
 
     // 회사 목록 조회 API
     @GetMapping
@@ -30,11 +35,15 @@ public class CompanyController {
         return ResponseEntity.ok(companies);
     }
 
-    // 회사 상세 정보 불러오기
+    // 회사 상세 정보 불러오기 (ETag / Last-Modified 가 같으면 304)
     @GetMapping("/{companyId}")
-    public ResponseEntity<Company> companyDetail(@PathVariable("companyId") long companyId) {
+    public ResponseEntity<Company> companyDetail(@PathVariable("companyId") long companyId, WebRequest request) {
+        EntityVersionCache.Validator validator = entityVersionCache.company(companyId);
+        if (ConditionalResponses.notModified(request, validator)) {
+            return null;
+        }
         Company company = companyService.companyDetail(companyId);
-        return ResponseEntity.ok(company);
+        return ConditionalResponses.ok(company, validator);
     }
 
     // 회사 상세 정보 수정
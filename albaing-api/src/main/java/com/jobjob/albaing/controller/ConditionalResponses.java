@@ -0,0 +1,35 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.service.EntityVersionCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET 응답 도우미
+ * 클라이언트는 매번 재검증하고 (Cache-Control: no-cache), 바뀌지 않았으면 본문 없이 304 를 받는다.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    // If-None-Match / If-Modified-Since 가 현재 검증값과 같으면 304 로 설정하고 true
+    static boolean notModified(WebRequest request, EntityVersionCache.Validator validator) {
+        return validator != null && request.checkNotModified(validator.etag(), validator.lastModified());
+    }
+
+    // 200 응답에 ETag, Last-Modified 를 붙임 (검증값이 없으면 그대로)
+    static <T> ResponseEntity<T> ok(T body, EntityVersionCache.Validator validator) {
+        if (validator == null) {
+            return ResponseEntity.ok(body);
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(validator.etag());
+        if (validator.lastModified() >= 0) {
+            builder.lastModified(validator.lastModified());
+        }
+        return builder.body(body);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -53,6 +54,23 @@ public class JobApplicationController {
         jobApplicationService.updateJobApplicationStatus(jobApplicationId, request.getApproveStatus());
     }
 
+    // 지원 상태 일괄 변경 (같은 지원 내역이 여러 번 있으면 마지막 상태로)
+    @PutMapping("/bulk")
+    public Map<String, Object> updateJobApplicationStatuses(@RequestBody BulkUpdateStatusRequest request) {
+        Map<Integer, String> decisions = new LinkedHashMap<>();
+        if (request.getDecisions() != null) {
+            for (StatusDecision decision : request.getDecisions()) {
+                decisions.put(decision.getJobApplicationId(), decision.getApproveStatus());
+            }
+        }
+        int updated = jobApplicationService.updateJobApplicationStatuses(decisions);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("requested", decisions.size());
+        response.put("updated", updated);
+        return response;
+    }
+
     // (이미 있는) 회사 기준 지원자 목록 조회
     @GetMapping("/company/{companyId}")
     public List<JobApplication> getApplicationsByCompany(@PathVariable int companyId) {
@@ -74,4 +92,18 @@ public class JobApplicationController {
         public String getApproveStatus() { return approveStatus; }
         public void setApproveStatus(String approveStatus) { this.approveStatus = approveStatus; }
     }
+
+    // 일괄 상태 변경 요청 DTO
+    public static class BulkUpdateStatusRequest {
+        private List<StatusDecision> decisions;
+        public List<StatusDecision> getDecisions() { return decisions; }
+        public void setDecisions(List<StatusDecision> decisions) { this.decisions = decisions; }
+    }
+
+    // 지원 내역 하나의 상태 변경
+    public static class StatusDecision extends UpdateStatusRequest {
+        private Integer jobApplicationId;
+        public Integer getJobApplicationId() { return jobApplicationId; }
+        public void setJobApplicationId(Integer jobApplicationId) { this.jobApplicationId = jobApplicationId; }
+    }
 }
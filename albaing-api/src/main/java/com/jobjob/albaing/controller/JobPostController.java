@@ -1,13 +1,20 @@
 package com.jobjob.albaing.controller;
 
 import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.JobPostSuggestion;
+import com.jobjob.albaing.dto.ResumePreference;
 import com.jobjob.albaing.dto.ViewJobPost;
+import com.jobjob.albaing.model.vo.JobPostCursor;
+import com.jobjob.albaing.service.EntityVersionCache;
 import com.jobjob.albaing.service.JobPostService;
 import com.jobjob.albaing.service.ResumeServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,12 +23,24 @@ import java.util.Map;
 @RequestMapping("/api/jobs")
 public class JobPostController {
 
+    // exactCount=false 일 때 최대로 세는 건수
+    private static final int APPROXIMATE_COUNT_CAP = 1000;
+
+    // batch 조회 한 번에 받을 수 있는 최대 공고 수
+    private static final int MAX_BATCH_SIZE = 100;
+
+    // 커서 방식 목록 한 페이지 최대 공고 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     @Autowired
     private JobPostService jobPostService;
 
     @Autowired
     private ResumeServiceImpl resumeService;
 
+    @Autowired
+    private EntityVersionCache entityVersionCache;
+
     // GET /api/jobs
     @GetMapping
     public ResponseEntity<Map<String, Object>> getJobPostList(
@@ -31,18 +50,30 @@ public class JobPostController {
             @RequestParam(required = false) String location,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "true") boolean onlyActive
+            @RequestParam(defaultValue = "true") boolean onlyActive,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean exactCount
     ) {
+        // cursor 파라미터가 있으면 커서 방식 (첫 페이지는 빈 값으로 요청)
+        if (cursor != null) {
+            return getJobPostListByCursor(jobCategory, jobType, keyword, cursor, size, onlyActive);
+        }
+
         List<JobPost> jobPosts = jobPostService.getJobPostList(
                 jobCategory, jobType, keyword, page, size, onlyActive);
 
-        int totalCount = jobPostService.getTotalCount(jobCategory, jobType, keyword, onlyActive);
+        // exactCount=false 면 APPROXIMATE_COUNT_CAP 건까지만 세고 totalExact=false 로 알려준다
+        int totalCount = exactCount
+                ? jobPostService.getTotalCount(jobCategory, jobType, keyword, onlyActive)
+                : jobPostService.getCappedCount(jobCategory, jobType, keyword, onlyActive, APPROXIMATE_COUNT_CAP);
+        boolean totalExact = exactCount || totalCount < APPROXIMATE_COUNT_CAP;
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", jobPosts);
         response.put("page", page);
         response.put("size", size);
         response.put("totalElements", totalCount);
+        response.put("totalExact", totalExact);
         response.put("totalPages", (int) Math.ceil((double) totalCount / size));
         response.put("first", page == 1);
         response.put("last", page >= (int) Math.ceil((double) totalCount / size));
@@ -50,21 +81,103 @@ public class JobPostController {
         return ResponseEntity.ok(response);
     }
 
-    // 채용공고 상세 조회
+    // GET /api/jobs/facets - 현재 검색 조건의 직군 / 근무 형태 / 지역별 건수
+    @GetMapping("/facets")
+    public ResponseEntity<Map<String, Object>> getJobPostFacets(
+            @RequestParam(required = false) String jobCategory,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "true") boolean onlyActive
+    ) {
+        Map<String, Object> facets = jobPostService.getJobPostFacets(jobCategory, jobType, region, keyword, onlyActive);
+        if (facets == null) {
+            // 서버 기동 직후 검색 색인 구성 중
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(facets);
+    }
+
+    // GET /api/jobs/suggest?q= - 공고 제목 / 기업명 자동완성 (초성 검색 가능)
+    @GetMapping("/suggest")
+    public List<JobPostSuggestion> suggest(@RequestParam(defaultValue = "") String q,
+                                           @RequestParam(defaultValue = "10") int size) {
+        return jobPostService.suggest(q, Math.min(Math.max(size, 1), 10));
+    }
+
+    // 무한 스크롤용 커서 방식 목록 조회 (전체 건수 없이 nextCursor 만 반환)
+    private ResponseEntity<Map<String, Object>> getJobPostListByCursor(
+            String jobCategory, String jobType, String keyword, String cursor, int size, boolean onlyActive) {
+        // 0 이하면 다음 커서 없이 끝나지 않는 페이지가 되므로 1 ~ MAX_CURSOR_PAGE_SIZE 로 제한
+        size = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        JobPostCursor after;
+        try {
+            after = cursor.isEmpty() ? null : JobPostCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<JobPost> jobPosts = new ArrayList<>(jobPostService.getJobPostListAfter(
+                jobCategory, jobType, keyword, after, size + 1, onlyActive));
+        boolean hasNext = jobPosts.size() > size;
+        if (hasNext) {
+            jobPosts = jobPosts.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobPost last = jobPosts.get(jobPosts.size() - 1);
+            nextCursor = new JobPostCursor(last.getJobPostCreatedAt(), last.getJobPostId()).encode();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", jobPosts);
+        response.put("size", size);
+        response.put("nextCursor", nextCursor);
+        response.put("last", !hasNext);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 채용공고 상세 조회 (ETag / Last-Modified 가 같으면 공고를 읽지 않고 304)
     @GetMapping("/{jobPostId}")
-    public ResponseEntity<JobPost> getJobPost(@PathVariable("jobPostId") String jobPostId) {
+    public ResponseEntity<JobPost> getJobPost(@PathVariable("jobPostId") String jobPostId, WebRequest request) {
         try {
             int id = Integer.parseInt(jobPostId);
+            EntityVersionCache.Validator validator = entityVersionCache.jobPost(id);
+            if (ConditionalResponses.notModified(request, validator)) {
+                return null;
+            }
             JobPost jobPost = jobPostService.getJobPost(id);
             if (jobPost == null) {
                 return ResponseEntity.notFound().build();
             }
-            return ResponseEntity.ok(jobPost);
+            return ConditionalResponses.ok(jobPost, validator);
         } catch (NumberFormatException e) {
             return ResponseEntity.badRequest().build(); // 400 에러 반환
         }
     }
 
+    // GET /api/jobs/batch?ids=1,2,3 - 여러 공고 한 번에 조회 (요청한 순서대로, 없는 공고는 제외)
+    @GetMapping("/batch")
+    public ResponseEntity<List<JobPost>> getJobPostsByIds(@RequestParam String ids) {
+        List<Long> jobPostIds = new ArrayList<>();
+        try {
+            for (String id : ids.split(",")) {
+                if (!id.isBlank()) {
+                    jobPostIds.add(Long.parseLong(id.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (jobPostIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobPostService.getJobPostsByIds(jobPostIds));
+    }
+
     // 채용공고 등록
     @PostMapping
     public ResponseEntity<JobPost> createJobPost(@RequestBody JobPost jobPost) {
@@ -108,9 +221,12 @@ public class JobPostController {
             @RequestParam(required = false) String jobCategory,
             @RequestParam(required = false) String jobType,
             @RequestParam(required = false) String keyword,
-            @RequestParam(defaultValue = "true") boolean onlyActive
+            @RequestParam(defaultValue = "true") boolean onlyActive,
+            @RequestParam(defaultValue = "true") boolean exactCount
     ) {
-        int count = jobPostService.getTotalCount(jobCategory, jobType, keyword, onlyActive);
+        int count = exactCount
+                ? jobPostService.getTotalCount(jobCategory, jobType, keyword, onlyActive)
+                : jobPostService.getCappedCount(jobCategory, jobType, keyword, onlyActive, APPROXIMATE_COUNT_CAP);
         return ResponseEntity.ok(count);
     }
 
@@ -131,9 +247,12 @@ public class JobPostController {
 
     @GetMapping("/mainPage/adjustedPosts")
     public List<JobPost> mainPageJobPostsAlignByUserResume(@RequestParam int userId) {
-        String resumeLocation = resumeService.getResumeByUserId(userId).getResumeLocation();
-        String resumeJobDuration = resumeService.getResumeByUserId(userId).getResumeJobDuration();
-        return jobPostService.mainPageJobPostsAlignByUserResume(resumeLocation, resumeJobDuration);
+        ResumePreference preference = resumeService.getResumePreference(userId);
+        if (preference == null) {
+            return new ArrayList<>();
+        }
+        return jobPostService.mainPageJobPostsAlignByUserResume(
+                preference.getResumeLocation(), preference.getResumeJobDuration());
     }
 
     @GetMapping("/mainPage/searchPosts")
@@ -1,11 +1,13 @@
 package com.jobjob.albaing.controller;
 
 import com.jobjob.albaing.dto.Notice;
+import com.jobjob.albaing.service.EntityVersionCache;
 import com.jobjob.albaing.service.NoticeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,25 +18,36 @@ public class NoticeController {
     @Autowired
     private NoticeService noticeService;
 
+    @Autowired
+    private EntityVersionCache entityVersionCache;
+
     /**
-     * 모든 공지사항 목록 조회
+     * 모든 공지사항 목록 조회 (ETag / Last-Modified 가 같으면 304)
      */
     @GetMapping
-    public ResponseEntity<List<Notice>> getAllNotices() {
+    public ResponseEntity<List<Notice>> getAllNotices(WebRequest request) {
+        EntityVersionCache.Validator validator = entityVersionCache.notices();
+        if (ConditionalResponses.notModified(request, validator)) {
+            return null;
+        }
         List<Notice> notices = noticeService.getAllNotices();
-        return ResponseEntity.ok(notices);
+        return ConditionalResponses.ok(notices, validator);
     }
 
     /**
-     * 공지사항 상세 조회
+     * 공지사항 상세 조회 (ETag / Last-Modified 가 같으면 304)
      */
     @GetMapping("/{noticeId}")
-    public ResponseEntity<Notice> getNoticeById(@PathVariable Long noticeId) {
+    public ResponseEntity<Notice> getNoticeById(@PathVariable Long noticeId, WebRequest request) {
+        EntityVersionCache.Validator validator = entityVersionCache.notice(noticeId);
+        if (ConditionalResponses.notModified(request, validator)) {
+            return null;
+        }
         Notice notice = noticeService.getNoticeById(noticeId);
         if (notice == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(notice);
+        return ConditionalResponses.ok(notice, validator);
     }
 
     /**
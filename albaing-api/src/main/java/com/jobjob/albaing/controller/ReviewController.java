@@ -4,12 +4,14 @@ import com.jobjob.albaing.dto.Comment;
 import com.jobjob.albaing.dto.Company;
 import com.jobjob.albaing.dto.Review;
 import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.service.EntityVersionCache;
 import com.jobjob.albaing.service.ReviewServiceImpl;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -22,11 +24,18 @@ public class ReviewController {
     @Autowired
     private ReviewServiceImpl reviewService;
 
-    // 특정 회사 전체 리뷰 보여주기
+    @Autowired
+    private EntityVersionCache entityVersionCache;
+
+    // 특정 회사 전체 리뷰 보여주기 (ETag / Last-Modified 가 같으면 304)
     @GetMapping("/companies/{companyId}/reviews")
-    public ResponseEntity<List<Review>> showReviews(@PathVariable("companyId") long companyId) {
+    public ResponseEntity<List<Review>> showReviews(@PathVariable("companyId") long companyId, WebRequest request) {
+        EntityVersionCache.Validator validator = entityVersionCache.companyReviews(companyId);
+        if (ConditionalResponses.notModified(request, validator)) {
+            return null;
+        }
         List<Review> reviews = reviewService.showReviews(companyId);
-        return ResponseEntity.ok(reviews);
+        return ConditionalResponses.ok(reviews, validator);
     }
 
     // 리뷰 등록 (일반 사용자)
@@ -0,0 +1,69 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.dto.SavedSearch;
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.service.SavedSearchServiceImpl;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+public class SavedSearchController {
+
+    @Autowired
+    private SavedSearchServiceImpl savedSearchService;
+
+    // 검색 조건 저장 (직군, 근무 형태, 지역 코드, 키워드 중 하나 이상)
+    @PostMapping("/{userId}")
+    public ResponseEntity<?> saveSearch(@PathVariable long userId, @RequestBody SavedSearch savedSearch, HttpSession session) {
+        ResponseEntity<?> denied = checkOwner(userId, session);
+        if (denied != null) {
+            return denied;
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedSearchService.saveSearch(userId, savedSearch));
+    }
+
+    // 로그인한 사용자의 저장한 검색 조건 목록
+    @GetMapping("/{userId}")
+    public ResponseEntity<?> getSavedSearches(@PathVariable long userId, HttpSession session) {
+        ResponseEntity<?> denied = checkOwner(userId, session);
+        if (denied != null) {
+            return denied;
+        }
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(userId));
+    }
+
+    // 검색 조건 삭제
+    @DeleteMapping("/{userId}/{savedSearchId}")
+    public ResponseEntity<?> deleteSavedSearch(@PathVariable long userId, @PathVariable long savedSearchId, HttpSession session) {
+        ResponseEntity<?> denied = checkOwner(userId, session);
+        if (denied != null) {
+            return denied;
+        }
+        savedSearchService.deleteSavedSearch(userId, savedSearchId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 경로의 userId 가 로그인한 본인일 때만 통과 (미로그인 401, 다른 사용자 403)
+    private ResponseEntity<?> checkOwner(long userId, HttpSession session) {
+        User user = (User) session.getAttribute("userSession");
+        if (user == null) {
+            return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        if (user.getUserId() == null || user.getUserId() != userId) {
+            return ResponseEntity.status(403).body(Map.of("message", "본인의 검색 조건만 관리할 수 있습니다."));
+        }
+        return null;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleIllegalArgument(IllegalArgumentException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+// 이력서별 지원 상태 개수 (마이페이지 지원 현황)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusCounts {
+    private int totalApplications;  // 전체 지원 개수
+    private int approving;          // 승인 대기
+    private int approved;           // 합격
+    private int denied;             // 불합격
+}
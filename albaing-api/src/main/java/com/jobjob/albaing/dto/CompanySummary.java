@@ -0,0 +1,15 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+// 채용공고 응답에 붙이는 기업 요약 정보
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanySummary {
+    private long companyId;
+    private String companyName;
+    private String companyLogo;
+}
@@ -0,0 +1,26 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 일일 다이제스트 발송 기록 (하루 한 행, 이어서 보낼 위치 포함)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyDigestRun {
+    private LocalDate digestDate;
+    private String runStatus;           // RUNNING, DONE
+    private long lastUserId;            // 발송을 마친 마지막 회원 번호
+    private String ownerToken;
+    private LocalDateTime leaseUntil;
+    private int sentCount;
+    private int failedCount;
+    private int skippedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,17 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+// 일일 다이제스트 수신자 (회원 번호 순으로 스트리밍, 이력서가 없으면 희망 조건은 null)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DigestRecipient {
+    private long userId;
+    private String userEmail;
+    private String userName;
+    private String resumeLocation;      // 희망 근무지
+    private String resumeJobDuration;   // 희망 근무 기간
+}
@@ -0,0 +1,17 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 조건부 GET (ETag / Last-Modified) 검증용 최소 정보
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityVersion {
+    private Long ownerId;               // 소유 기업 ID (채용공고만)
+    private LocalDateTime updatedAt;    // 최종 수정 시각 (목록이면 가장 최근 수정 시각)
+    private String state;               // 수정 시각을 바꾸지 않고 바뀌는 값 (상태, 목록 건수 등)
+}
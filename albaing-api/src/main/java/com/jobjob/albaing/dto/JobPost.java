@@ -24,6 +24,8 @@ public class JobPost {
     private String jobPostShiftHours;        // 근무 시간
     private String jobPostSalary;            // 급여
     private String jobPostWorkPlace;         // 근무지
+    private String jobPostRegionCode;        // 근무지 지역 코드 (시/도 2자리 또는 시/군/구 5자리)
+    private String jobPostRegionDong;        // 근무지 동/읍/면
     private Boolean jobPostStatus;           // 공고 상태
     private LocalDate jobPostDueDate;        // 마감일
     private LocalDateTime jobPostCreatedAt;  // 공고 게시일
@@ -0,0 +1,15 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+// 검색어 자동완성 항목
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostSuggestion {
+    private String text;    // 완성된 문구 (공고 제목 또는 기업명)
+    private String type;    // jobTitle, company
+    private long weight;    // 인기도 (공고 수 + 지원자 수)
+}
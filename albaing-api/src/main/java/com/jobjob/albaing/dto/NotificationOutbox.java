@@ -0,0 +1,34 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 알림 발송함 한 건 (NOTIFICATION_OUTBOX)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    public static final String JOB_APPROVED = "JOB_APPROVED";
+    public static final String JOB_DENIED = "JOB_DENIED";
+
+    private Long outboxId;
+    private String notificationType;    // JOB_APPROVED, JOB_DENIED
+    private Long userId;
+    private Integer jobApplicationId;
+    private String jobPostTitle;
+    private String companyName;
+    private String outboxStatus;        // PENDING, SENDING, SENT, DEAD
+    private int attemptCount;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime sentAt;
+
+    // 수신자 (컬럼 아님, 발송할 때 USERS 에서 함께 읽음. 탈퇴한 회원이면 null)
+    private String userEmail;
+    private String userName;
+}
@@ -0,0 +1,16 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+// 메인 페이지 맞춤 공고용 이력서 희망 조건
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumePreference {
+    private int resumeId;
+    private int userId;
+    private String resumeLocation;      // 희망 근무지
+    private String resumeJobDuration;   // 희망 근무 기간
+}
@@ -0,0 +1,21 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 저장한 채용공고 검색 조건 (SAVED_SEARCHES)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+    private long savedSearchId;
+    private long userId;
+    private String jobCategory;     // 직군
+    private String jobType;         // 근무 형태
+    private String regionCode;      // 지역 코드 (시/도 2자리 또는 시/군/구 5자리)
+    private String keyword;         // 제목, 근무지, 기업명 키워드
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 저장한 검색과 일치한 공고 한 건 (다이제스트 발송용, 수신자와 공고 정보 포함)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatch {
+    private long matchId;
+    private long userId;
+    private long jobPostId;
+
+    // 발송 시점에 함께 읽는 값 (탈퇴한 회원, 삭제된 공고면 null)
+    private String userEmail;
+    private String userName;
+    private String jobPostTitle;
+    private String jobPostWorkPlace;
+    private Boolean jobPostStatus;
+    private LocalDate jobPostDueDate;
+    private String companyName;
+}
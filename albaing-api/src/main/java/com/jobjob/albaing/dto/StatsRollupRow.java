@@ -0,0 +1,18 @@
+package com.jobjob.albaing.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 관리자 통계 롤업 한 행 (구간 시작, 통계 종류, 항목명, 증감)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRollupRow {
+    private LocalDateTime bucketStart;  // 구간 시작 (시간 단위)
+    private String statDimension;       // JOB_CATEGORY, JOB_TYPE, USER_REGION
+    private String statName;            // 직종, 고용형태, 지역명
+    private long statDelta;             // 증감 (현재 집계 조회 시에는 건수)
+}
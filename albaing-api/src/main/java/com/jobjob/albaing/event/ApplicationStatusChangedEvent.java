@@ -0,0 +1,37 @@
+package com.jobjob.albaing.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 지원, 지원 상태 변경 후 발행되는 이벤트
+ * applied 이면 새로 지원한 것 (승인 대기 상태로 추가), 아니면 기존 지원 내역의 상태 변경이다.
+ */
+@Getter
+@ToString
+public class ApplicationStatusChangedEvent {
+
+    // 이력서별 지원 상태 변경 한 건
+    public record Change(int resumeId, String before, String after) {
+    }
+
+    private final List<Change> changes;
+    private final boolean applied;
+
+    private ApplicationStatusChangedEvent(List<Change> changes, boolean applied) {
+        this.changes = changes;
+        this.applied = applied;
+    }
+
+    // 지원 한 건
+    public static ApplicationStatusChangedEvent ofApplied(int resumeId) {
+        return new ApplicationStatusChangedEvent(List.of(new Change(resumeId, null, "approving")), true);
+    }
+
+    // 지원 상태 변경 (한 건 또는 일괄)
+    public static ApplicationStatusChangedEvent ofChanges(List<Change> changes) {
+        return new ApplicationStatusChangedEvent(changes, false);
+    }
+}
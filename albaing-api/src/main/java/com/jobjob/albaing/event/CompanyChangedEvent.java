@@ -0,0 +1,18 @@
+package com.jobjob.albaing.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 기업 정보 수정 / 승인 상태 변경 / 삭제 후 발행되는 이벤트
+ */
+@Getter
+@ToString
+public class CompanyChangedEvent {
+
+    private final long companyId;
+
+    public CompanyChangedEvent(long companyId) {
+        this.companyId = companyId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobjob.albaing.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 채용공고 등록/수정/상태 변경/삭제 후 발행되는 이벤트
+ * jobPostId 가 있으면 해당 공고 하나, companyId 만 있으면 그 기업의 공고 전체가 변경된 것으로 본다.
+ */
+@Getter
+@ToString
+public class JobPostChangedEvent {
+
+    private final Long jobPostId;
+    private final Long companyId;
+
+    private JobPostChangedEvent(Long jobPostId, Long companyId) {
+        this.jobPostId = jobPostId;
+        this.companyId = companyId;
+    }
+
+    // 공고 한 건 변경
+    public static JobPostChangedEvent ofJobPost(long jobPostId) {
+        return new JobPostChangedEvent(jobPostId, null);
+    }
+
+    // 기업 단위 일괄 변경 (기업 삭제 시 공고 숨김 처리 등)
+    public static JobPostChangedEvent ofCompany(long companyId) {
+        return new JobPostChangedEvent(null, companyId);
+    }
+
+    public boolean isCompanyWide() {
+        return jobPostId == null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobjob.albaing.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 알림 발송함에 알림이 기록된 후 발행되는 이벤트
+ * 커밋 후 발송기를 바로 깨우는 용도이며, 놓쳐도 주기적인 확인에서 발송된다.
+ */
+@Getter
+@ToString
+public class NotificationQueuedEvent {
+
+    private final int count;
+
+    public NotificationQueuedEvent(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobjob.albaing.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 이력서 생성/수정 후 발행되는 이벤트
+ * 회원가입 시에는 userId, 이력서 수정 시에는 resumeId 만 알 수 있다.
+ */
+@Getter
+@ToString
+public class ResumeChangedEvent {
+
+    private final Integer resumeId;
+    private final Integer userId;
+
+    private ResumeChangedEvent(Integer resumeId, Integer userId) {
+        this.resumeId = resumeId;
+        this.userId = userId;
+    }
+
+    public static ResumeChangedEvent ofResume(int resumeId) {
+        return new ResumeChangedEvent(resumeId, null);
+    }
+
+    public static ResumeChangedEvent ofUser(int userId) {
+        return new ResumeChangedEvent(null, userId);
+    }
+}
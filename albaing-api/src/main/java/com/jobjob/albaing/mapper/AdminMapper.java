@@ -26,7 +26,7 @@ public interface AdminMapper {
 
     User adminUserDetail(String userId);
 
-    void adminUserDelete(String userId);
+    int adminUserDelete(String userId);
 
     Resume adminResumeDetail(String resumeId);
 
@@ -1,7 +1,10 @@
 package com.jobjob.albaing.mapper;
 
 import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.CompanySummary;
+import com.jobjob.albaing.dto.EntityVersion;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,6 +30,9 @@ public interface CompanyMapper {
     // 회사 전화번호 존재여부 확인
     boolean isCompanyPhoneExist(String companyPhone);
 
+    // 전체 회사 이메일, 전화번호 (중복체크 Bloom filter 생성용, 한 행씩 handler 로 전달)
+    void scanCompanyContacts(ResultHandler<Map<String, Object>> handler);
+
     // 회사 이메일 찾기
     Company findCompanyEmail(String companyName, String companyPhone);
 
@@ -50,4 +56,13 @@ public interface CompanyMapper {
 
     // 회사명으로 검색
     List<Company> searchCompaniesByName(@Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    // 승인된 기업 ID, 이름만 조회
+    List<Company> selectApprovedCompanyNames();
+
+    // 기업 ID 목록으로 기업명, 로고만 조회 (채용공고 응답용)
+    List<CompanySummary> selectCompanySummaries(List<Long> companyIds);
+
+    // 조건부 GET 검증용
+    EntityVersion selectCompanyVersion(long companyId);
+}
@@ -0,0 +1,54 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.dto.DailyDigestRun;
+import com.jobjob.albaing.dto.DigestRecipient;
+import com.jobjob.albaing.dto.Scrap;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Mapper
+public interface DailyDigestMapper {
+
+    // 그날의 발송 기록 생성 (이미 있으면 그대로)
+    void insertRun(@Param("digestDate") LocalDate digestDate);
+
+    /**
+     * 발송 중인 기록을 이 서버가 지금(DB 시각)부터 leaseMinutes 분 동안 점유 (점유한 서버가 없거나 점유가 만료된 경우만)
+     * @return 점유했으면 1, 완료됐거나 다른 서버가 보내는 중이면 0
+     */
+    int acquireRun(@Param("digestDate") LocalDate digestDate,
+                   @Param("ownerToken") String ownerToken,
+                   @Param("leaseMinutes") long leaseMinutes);
+
+    DailyDigestRun selectRun(@Param("digestDate") LocalDate digestDate);
+
+    /**
+     * 발송 위치와 건수 기록, 점유 연장
+     * @return 점유를 잃었으면 (다른 서버가 가져감) 0
+     */
+    int checkpoint(@Param("digestDate") LocalDate digestDate,
+                   @Param("ownerToken") String ownerToken,
+                   @Param("lastUserId") long lastUserId,
+                   @Param("sent") int sent,
+                   @Param("failed") int failed,
+                   @Param("skipped") int skipped,
+                   @Param("leaseMinutes") long leaseMinutes);
+
+    // 점유 해제 (done 이면 완료 처리)
+    void releaseRun(@Param("digestDate") LocalDate digestDate,
+                    @Param("ownerToken") String ownerToken,
+                    @Param("done") boolean done);
+
+    void deleteRunsBefore(@Param("before") LocalDate before);
+
+    // afterUserId 다음 회원부터 회원 번호 순으로 (트랜잭션 안에서 한 건씩 읽음)
+    Cursor<DigestRecipient> streamRecipients(@Param("afterUserId") long afterUserId);
+
+    // 해당 공고를 스크랩한 회원 (userId, jobPostId 만 채움, 한 건씩 handler 로 전달)
+    void scanScrapsByJobPostIds(@Param("jobPostIds") Collection<Long> jobPostIds, ResultHandler<Scrap> handler);
+}
@@ -3,7 +3,9 @@ package com.jobjob.albaing.mapper;
 import com.jobjob.albaing.dto.JobApplication;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface JobApplicationMapper {
@@ -14,6 +16,9 @@ public interface JobApplicationMapper {
     // ID로 특정 지원 내역 조회 메서드 추가
     JobApplication getJobApplicationById(@Param("jobApplicationId") int jobApplicationId);
 
+    // 여러 지원 내역 조회
+    List<JobApplication> getJobApplicationsByIds(@Param("jobApplicationIds") Collection<Integer> jobApplicationIds);
+
     void userApplyForJob(JobApplication jobApplication);
 
     void updateJobApplicationStatus(
@@ -21,6 +26,9 @@ public interface JobApplicationMapper {
         @Param("approveStatus") String approveStatus
     );
 
+    // 지원 내역 ID 별 상태 일괄 변경 (변경된 건수)
+    int updateJobApplicationStatuses(@Param("decisions") Map<Integer, String> decisions);
+
     int countApplicationsByJobPost(@Param("jobPostId") int jobPostId);
 
     int countByJobPostIdAndResumeId(@Param("jobPostId") int jobPostId, @Param("resumeId") int resumeId);
@@ -1,5 +1,6 @@
 package com.jobjob.albaing.mapper;
 
+import com.jobjob.albaing.dto.EntityVersion;
 import com.jobjob.albaing.dto.JobPost;
 import com.jobjob.albaing.dto.ViewJobPost;
 import org.apache.ibatis.annotations.Mapper;
@@ -17,11 +18,41 @@ public interface JobPostMapper {
     void updateJobPostStatus(@Param("jobPostId") long jobPostId,
                              @Param("status") boolean status);
     int countJobPost(Map<String, Object> params);
+
+    // params 의 cap 건까지만 셈
+    int countJobPostCapped(Map<String, Object> params);
+
     List<JobPost> getJobPostsByCompanyId(long companyId);
 
     List<JobPost> mainPageJobPostsAlignByDueDateASC();
     List<JobPost> mainPageJobPostsAlignByDueDateDESC();
     List<JobPost> mainPageJobPostsAlignByUserResume(String resumeLocation, String resumeJobDuration);
     List<JobPost> mainPageJobPostsRandom();
-    List<ViewJobPost> searchJobPosts(String regionSelect, String jobCategorySelect, String searchKeyword);
-}
\ No newline at end of file
+
+    // 메인 페이지 피드 스냅샷 구성용
+    List<JobPost> selectMainPageFeedJobPosts();
+
+    List<ViewJobPost> searchJobPosts(String regionSelect, String regionCode, String regionDong,
+                                     String jobCategorySelect, String searchKeyword);
+
+    // 검색 색인 구성용 전체 공고 조회
+    List<JobPost> selectJobPostsForIndex();
+
+    // 지역 코드 보정
+    List<JobPost> selectJobPostsWithoutRegion(@Param("afterJobPostId") long afterJobPostId,
+                                              @Param("limit") int limit);
+    void updateJobPostRegion(@Param("jobPostId") long jobPostId,
+                             @Param("regionCode") String regionCode,
+                             @Param("regionDong") String regionDong);
+
+    // 자동완성 색인용 (jobPostId, companyId 가 null 이면 전체)
+    List<Map<String, Object>> selectSuggestSources(@Param("jobPostId") Long jobPostId,
+                                                   @Param("companyId") Long companyId);
+
+    // 공고 ID 목록으로 일괄 조회 (순서는 호출하는 쪽에서 맞춤)
+    List<JobPost> selectJobPostsByIds(@Param("jobPostIds") List<Long> jobPostIds);
+    List<ViewJobPost> selectViewJobPostsByIds(@Param("jobPostIds") List<Long> jobPostIds);
+
+    // 조건부 GET 검증용
+    EntityVersion selectJobPostVersion(long jobPostId);
+}
@@ -1,5 +1,6 @@
 package com.jobjob.albaing.mapper;
 
+import com.jobjob.albaing.dto.ApplicationStatusCounts;
 import org.apache.ibatis.annotations.Mapper;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -11,11 +12,8 @@ public interface MyApplicationMapper {
     // 사용자가 지원한 공고 목록 조회
     List<Map<String, Object>> getUserApplications(@RequestParam("resumeId") int resumeId);
 
-    //지원한 공고 상태별 카운팅
-    int countUserApplication(@RequestParam("resumeId") int resumeId);
-    int countApproving(@RequestParam("resumeId") int resumeId);
-    int countApproved(@RequestParam("resumeId") int resumeId);
-    int countDenied(@RequestParam("resumeId") int resumeId);
+    //지원한 공고 상태별 카운팅 (한 번의 조회로 전체/승인 대기/합격/불합격)
+    ApplicationStatusCounts selectApplicationStatusCounts(int resumeId);
 
 
 }
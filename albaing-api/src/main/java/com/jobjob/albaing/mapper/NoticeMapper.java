@@ -1,5 +1,6 @@
 package com.jobjob.albaing.mapper;
 
+import com.jobjob.albaing.dto.EntityVersion;
 import com.jobjob.albaing.dto.Notice;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -33,4 +34,11 @@ public interface NoticeMapper {
      * 공지사항 삭제
      */
     void deleteNotice(@Param("noticeId") Long noticeId);
-}
\ No newline at end of file
+
+    /**
+     * 조건부 GET 검증용 (상세 / 목록)
+     */
+    EntityVersion selectNoticeVersion(@Param("noticeId") Long noticeId);
+
+    EntityVersion selectNoticeListVersion();
+}
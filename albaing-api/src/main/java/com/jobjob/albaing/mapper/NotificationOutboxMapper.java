@@ -0,0 +1,53 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.dto.NotificationOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+
+    /**
+     * 지원 결과 알림 기록 (지원 내역에서 수신자, 공고명, 회사명을 함께 읽어서 한 문장으로 저장)
+     * 합격 (approved), 불합격 (denied) 상태인 지원 내역만 기록하고, 알림 종류는 현재 상태로 정한다.
+     * @return 기록된 건수
+     */
+    int insertJobResults(@Param("jobApplicationIds") Collection<Integer> jobApplicationIds);
+
+    /**
+     * 발송할 때가 된 대기 알림 (수신자 이메일, 이름 포함)
+     */
+    List<NotificationOutbox> selectDue(@Param("limit") int limit);
+
+    /**
+     * 발송 중으로 표시 (다른 서버가 먼저 가져갔으면 0)
+     */
+    int claim(@Param("outboxId") long outboxId);
+
+    /**
+     * 발송 완료
+     */
+    void markSent(@Param("outboxIds") Collection<Long> outboxIds);
+
+    /**
+     * 발송 실패 (status 가 PENDING 이면 지금 (DB 시각) 부터 delayMillis 뒤에 재시도, DEAD 면 더 이상 시도하지 않음)
+     */
+    void markFailed(@Param("outboxId") long outboxId,
+                    @Param("status") String status,
+                    @Param("attemptCount") int attemptCount,
+                    @Param("delayMillis") long delayMillis,
+                    @Param("lastError") String lastError);
+
+    /**
+     * 발송 중에 서버가 내려가서 멈춘 알림을 다시 대기로 돌림
+     */
+    int releaseStuck(@Param("stuckMinutes") long stuckMinutes);
+
+    /**
+     * 오래된 발송 완료 알림 삭제
+     */
+    int deleteSent(@Param("retentionDays") long retentionDays);
+}
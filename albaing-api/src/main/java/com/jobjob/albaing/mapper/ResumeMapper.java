@@ -44,4 +44,7 @@ public interface ResumeMapper {
 
         List<ResumeSummary> getAllResumeSummaries();
 
+        // 메인 페이지 맞춤 공고용 희망 조건만 조회
+        ResumePreference getResumePreferenceByUserId(int userId);
+
 }
@@ -1,6 +1,7 @@
 package com.jobjob.albaing.mapper;
 
 import com.jobjob.albaing.dto.Comment;
+import com.jobjob.albaing.dto.EntityVersion;
 import com.jobjob.albaing.dto.Review;
 import org.apache.ibatis.annotations.Mapper;
 
@@ -27,7 +28,7 @@ public interface ReviewMapper {
     void updateReview(Review review);
 
     //회사 리뷰 삭제
-    void deleteReview(long reviewId, long userId);
+    int deleteReview(long reviewId, long userId);
 
     //리뷰 댓글 등록
     void addComment(Comment comment);
@@ -49,7 +50,7 @@ public interface ReviewMapper {
     int updateReviewByAdmin(Review review);
 
     // 어드민 리뷰 삭제
-    void deleteReviewByAdmin(long reviewId);
+    int deleteReviewByAdmin(long reviewId);
 
     // 어드민 댓글 삭제
     void deleteCommentByAdmin(long commentId);
@@ -72,11 +73,14 @@ public interface ReviewMapper {
     List<Comment> getCommentsByUser(long userId);
 
     // 내가 작성한 리뷰 삭제
-    void deleteReviewByUser(long reviewId, long userId);
+    int deleteReviewByUser(long reviewId, long userId);
 
     // 내가 작성한 댓글 삭제
     void deleteCommentByUser(long commentId, long userId);
 
     // 특정 리뷰글의 댓글 수
     Long getCommentsByReview(long reviewId);
+
+    // 조건부 GET 검증용 (기업 리뷰 목록)
+    EntityVersion selectCompanyReviewsVersion(long companyId);
 }
@@ -0,0 +1,51 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.dto.SavedSearch;
+import com.jobjob.albaing.dto.SavedSearchMatch;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface SavedSearchMapper {
+
+    // 검색 조건 저장 (savedSearchId 가 채워짐)
+    void insertSavedSearch(SavedSearch savedSearch);
+
+    List<SavedSearch> selectSavedSearchesByUser(@Param("userId") long userId);
+
+    int countSavedSearchesByUser(@Param("userId") long userId);
+
+    // 본인 검색 조건만 삭제 (삭제된 건수)
+    int deleteSavedSearch(@Param("savedSearchId") long savedSearchId, @Param("userId") long userId);
+
+    // afterId 보다 ID 가 큰 검색 조건 (색인 생성/동기화용, 0 이면 전체, 한 건씩 handler 로 전달)
+    void scanSavedSearches(@Param("afterId") long afterId, ResultHandler<SavedSearch> handler);
+
+    /**
+     * 새 공고와 일치한 검색 조건을 발송함에 기록 (삭제된 검색 조건, 이미 기록된 회원/공고는 건너뜀)
+     * @return 기록된 건수
+     */
+    int insertMatches(@Param("jobPostId") long jobPostId,
+                      @Param("savedSearchIds") Collection<Long> savedSearchIds);
+
+    // 대기 중인 일치 내역을 최대 limit 건 발송 중으로 표시 (claimToken 으로 이번에 가져간 행을 구분)
+    int claimPending(@Param("claimToken") String claimToken, @Param("limit") int limit);
+
+    // claimPending 으로 가져간 일치 내역 (회원별로 모아서)
+    List<SavedSearchMatch> selectClaimed(@Param("claimToken") String claimToken);
+
+    // 가져간 일치 내역 중 해당 회원들의 상태 변경 (SENT: 발송 완료, PENDING: 다음에 다시)
+    void updateClaimed(@Param("claimToken") String claimToken,
+                       @Param("userIds") Collection<Long> userIds,
+                       @Param("status") String status);
+
+    // 발송 중에 서버가 내려가서 멈춘 일치 내역을 다시 대기로 돌림
+    int releaseStuck(@Param("stuckMinutes") long stuckMinutes);
+
+    // 오래된 발송 완료 내역 삭제
+    int deleteSent(@Param("retentionDays") long retentionDays);
+}
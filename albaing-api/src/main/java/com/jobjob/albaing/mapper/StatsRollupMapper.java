@@ -0,0 +1,65 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.dto.StatsRollupRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface StatsRollupMapper {
+
+    /**
+     * 롤업 테이블 전체 행 수 (테이블이 없으면 예외)
+     */
+    long countRollupRows();
+
+    /**
+     * 서버 한 대만 실행할 작업 기록 (트랜잭션 안에서 호출)
+     * @return 이 서버가 처음 기록했으면 1, 이미 다른 서버가 기록했으면 0
+     */
+    int claimRun(@Param("runKey") String runKey);
+
+    /**
+     * 시간 단위 롤업에 증감 누적
+     */
+    void upsertHourly(@Param("rows") List<StatsRollupRow> rows);
+
+    /**
+     * before 이전 시간 단위 롤업을 일 단위 롤업으로 합침
+     */
+    int compactHourly(@Param("before") LocalDateTime before);
+
+    /**
+     * before 이전 시간 단위 롤업 삭제 (compactHourly 와 같은 트랜잭션에서 실행)
+     */
+    int deleteHourly(@Param("before") LocalDateTime before);
+
+    /**
+     * 원본 테이블 기준 항목별 현재 건수 (초기 적재, 보정용)
+     */
+    List<StatsRollupRow> selectBaseCounts(@Param("dimension") String dimension);
+
+    /**
+     * 롤업 기준 항목별 현재 건수 (보정용)
+     */
+    List<StatsRollupRow> selectRollupTotals(@Param("dimension") String dimension);
+
+    /**
+     * 항목별 통계 (기간이 없으면 현재 건수, 있으면 기간 내 증감)
+     */
+    List<Map<String, Object>> selectStats(@Param("dimension") String dimension,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("limit") Integer limit);
+
+    /**
+     * 구간별 증감 추이 (granularity: hour, day)
+     */
+    List<Map<String, Object>> selectTrend(@Param("dimension") String dimension,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("granularity") String granularity);
+}
@@ -2,6 +2,7 @@ package com.jobjob.albaing.mapper;
 
 import com.jobjob.albaing.dto.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Date;
@@ -24,6 +25,9 @@ public interface UserMapper {
     // 유저 전화번호 중복체크
     boolean isUserPhoneExist(String phone);
 
+    // 전체 유저 이메일, 전화번호 (중복체크 Bloom filter 생성용, 한 행씩 handler 로 전달)
+    void scanUserContacts(ResultHandler<Map<String, Object>> handler);
+
     // 유저 이메일 찾기
     User findUserEmail(String userName, String userPhone);
 
@@ -32,7 +36,7 @@ public interface UserMapper {
                             @Param("encodedPassword") String encodedPassword);
 
     // 유저 회원탈퇴
-    void deleteUser(Long userId);
+    int deleteUser(Long userId);
 
     // 마이페이지- 사용자 정보 조회
     User getUserById(Long userId);
@@ -0,0 +1,20 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.model.vo.VerificationData;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface VerificationMapper {
+
+    // 저장 (같은 이메일이면 덮어씀)
+    void upsertVerification(@Param("email") String email, @Param("data") VerificationData data);
+
+    // 만료되지 않은 인증 상태 조회
+    VerificationData selectVerification(@Param("email") String email);
+
+    void deleteVerification(@Param("email") String email);
+
+    // 만료된 인증 상태를 최대 limit 건 삭제 (삭제된 건수)
+    int deleteExpired(@Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 일일 맞춤 공고 다이제스트 메일 모델 (templates/mail/daily-digest.html)
+ * 공고 한 건의 표시 정보는 저장한 검색 다이제스트와 같은 SavedSearchDigestMail.Post 를 쓴다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DailyDigestMail {
+
+    public static final String SUBJECT = "[알바잉] 오늘의 맞춤 공고와 마감 임박 스크랩 공고";
+
+    private final String userName;
+    private final List<SavedSearchDigestMail.Post> newPosts;      // 이력서 희망 조건에 맞는 어제 올라온 공고
+    private final int moreNewCount;                               // 보여 주지 않은 나머지 새 공고 수
+    private final List<SavedSearchDigestMail.Post> closingPosts;  // 마감이 가까운 스크랩 공고
+}
@@ -0,0 +1,46 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채용공고 목록 커서 (마지막으로 받은 공고의 등록일시 + 공고 ID)
+ * 클라이언트에는 base64url 문자열로만 전달해서 내부 형식에 의존하지 않게 한다.
+ * 등록일시가 없는 공고 (목록 맨 뒤) 는 등록일시를 빈 값으로 둔다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobPostCursor {
+
+    private final LocalDateTime createdAt;
+    private final long jobPostId;
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt.toString()) + "|" + jobPostId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서면 IllegalArgumentException
+    public static JobPostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            String createdAt = raw.substring(0, separator);
+            return new JobPostCursor(
+                createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 지원 결과 (합격/불합격) 알림 메일 모델 (templates/mail/job-result.html)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobResultMail {
+
+    private final Long userId;
+    private final String userName;
+    private final String jobPostTitle;
+    private final String companyName;
+    private final boolean approved;
+    private final LocalDate resultDate;
+
+    public String getSubject() {
+        return approved
+            ? "[알바잉] 축하합니다! 지원하신 공고에 합격하셨습니다"
+            : "[알바잉] 지원하신 공고에 대한 결과 안내";
+    }
+}
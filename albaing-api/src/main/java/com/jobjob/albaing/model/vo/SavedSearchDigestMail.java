@@ -0,0 +1,34 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 저장한 검색 조건 새 공고 다이제스트 메일 모델 (templates/mail/saved-search-digest.html)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SavedSearchDigestMail {
+
+    public static final String SUBJECT = "[알바잉] 저장한 검색 조건에 맞는 새 공고가 올라왔어요";
+
+    private final String userName;
+    private final List<Post> posts;     // 메일에 보여 줄 공고 (최대 MAX_POSTS 건)
+    private final int moreCount;        // 보여 주지 않은 나머지 공고 수
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Post {
+        private final long jobPostId;
+        private final String jobPostTitle;
+        private final String companyName;
+        private final String jobPostWorkPlace;
+        private final LocalDate jobPostDueDate;
+    }
+}
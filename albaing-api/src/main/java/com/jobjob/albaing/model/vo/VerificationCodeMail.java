@@ -0,0 +1,19 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 이메일 인증번호 메일 모델 (templates/mail/verification-code.html)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class VerificationCodeMail {
+
+    public static final String SUBJECT = "[알바잉] 이메일 인증번호";
+
+    private final String code;
+    private final int validMinutes;
+}
@@ -2,6 +2,7 @@ package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -60,12 +61,15 @@ public interface AdminService {
 
     Map<String, Object> getDashboardStats();
 
-    // 직종별 채용공고 통계
-    List<Map<String, Object>> getJobCategoryStats();
+    // 직종별 채용공고 통계 (기간이 없으면 현재 활성 공고 수, 있으면 기간 내 증감)
+    List<Map<String, Object>> getJobCategoryStats(LocalDateTime from, LocalDateTime to);
 
-    // 고용형태별 채용공고 통계
-    List<Map<String, Object>> getJobTypeStats();
+    // 고용형태별 채용공고 통계 (기간이 없으면 현재 활성 공고 수, 있으면 기간 내 증감)
+    List<Map<String, Object>> getJobTypeStats(LocalDateTime from, LocalDateTime to);
 
-    // 지역별 회원 통계
-    List<Map<String, Object>> getUserRegionStats();
+    // 지역별 회원 통계 (기간이 없으면 현재 회원 수, 있으면 기간 내 증감)
+    List<Map<String, Object>> getUserRegionStats(LocalDateTime from, LocalDateTime to);
+
+    // 통계 구간별 증감 추이 (dimension: job-categories, job-types, user-regions / granularity: hour, day)
+    List<Map<String, Object>> getStatsTrend(String dimension, LocalDateTime from, LocalDateTime to, String granularity);
 }
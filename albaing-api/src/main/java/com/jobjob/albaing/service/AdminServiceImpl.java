@@ -1,11 +1,19 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.*;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.event.JobPostChangedEvent;
 import com.jobjob.albaing.mapper.AdminMapper;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import com.jobjob.albaing.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +24,24 @@ public class AdminServiceImpl implements AdminService {
     @Autowired
     private AdminMapper adminMapper;
 
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private StatsRollup statsRollup;
+
     @Override
     public List<AdminUser> adminSearchUsers(String userName, String userEmail, String userPhone, String sortOrderBy, Boolean isDESC) {
         return adminMapper.adminSearchUsers(userName, userEmail, userPhone, sortOrderBy, isDESC);
@@ -38,7 +64,10 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void updateCompanyApprovalStatus(Long companyId, String status) {
+        Company before = companyMapper.companyDetail(companyId);
         adminMapper.updateCompanyApprovalStatus(companyId, status);
+        dashboardCounters.companyApprovalChanged(before, status);
+        eventPublisher.publishEvent(new CompanyChangedEvent(companyId));
     }
 
     @Override
@@ -51,7 +80,10 @@ public class AdminServiceImpl implements AdminService {
         Map<String, Object> params = new HashMap<>();
         params.put("jobPostId", jobPostId);
         params.put("status", status);
+        JobPost before = findJobPost(jobPostId);
         adminMapper.updateJobPostStatus(params);
+        recordJobPostChanged(before, findJobPost(jobPostId));
+        publishJobPostChanged(jobPostId);
     }
 
     @Override
@@ -61,7 +93,14 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void adminUserDelete(String userId) {
-        adminMapper.adminUserDelete(userId);
+        User before = findUser(userId);
+        int deleted = adminMapper.adminUserDelete(userId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_USERS, -deleted);
+        // 탈퇴한 회원의 리뷰는 FK 로 함께 지워질 수 있으므로 다시 셈
+        dashboardCounters.markStale(DashboardCounters.Counter.TOTAL_REVIEWS);
+        if (deleted > 0) {
+            statsRollup.userChanged(before, null);
+        }
     }
 
     @Override
@@ -81,7 +120,10 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void adminCompanyDelete(String companyId) {
+        Company before = findCompany(companyId);
         adminMapper.adminCompanyDelete(companyId);
+        dashboardCounters.companyDeleted(before);
+        publishCompanyChanged(companyId);
     }
 
     @Transactional
@@ -97,12 +139,81 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void adminJobPostDelete(String jobPostId) {
+        JobPost before = findJobPost(jobPostId);
         adminMapper.adminJobPostDelete(jobPostId);
+        recordJobPostChanged(before, null);
+        publishJobPostChanged(jobPostId);
     }
 
     @Override
     public void adminJobPostStatusChange(String CompanyId) {
+        long companyId;
+        try {
+            companyId = Long.parseLong(CompanyId);
+        } catch (NumberFormatException ignored) {
+            // 숫자가 아닌 ID 는 변경된 공고가 없음
+            adminMapper.adminJobPostStatusChange(CompanyId);
+            return;
+        }
+
+        // 모든 공고가 비활성이 되므로 변경 전 공고만 알면 증감을 계산할 수 있다
+        List<JobPost> before = jobPostMapper.getJobPostsByCompanyId(companyId);
         adminMapper.adminJobPostStatusChange(CompanyId);
+        for (JobPost jobPost : before) {
+            recordJobPostChanged(jobPost, null);
+        }
+        eventPublisher.publishEvent(JobPostChangedEvent.ofCompany(companyId));
+    }
+
+    // 공고 변경 전후로 대시보드 카운터와 통계 롤업 반영 (삭제, 비활성화 후는 null)
+    private void recordJobPostChanged(JobPost before, JobPost after) {
+        dashboardCounters.jobPostChanged(before, after);
+        statsRollup.jobPostChanged(before, after);
+    }
+
+    // 변경 전후 공고 (카운터 증감 계산용, 숫자가 아닌 ID 는 null)
+    private JobPost findJobPost(String jobPostId) {
+        try {
+            return jobPostMapper.selectJobPostById(Long.parseLong(jobPostId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 삭제 전 회원 (통계 롤업 증감 계산용, 숫자가 아닌 ID 는 null)
+    private User findUser(String userId) {
+        try {
+            return userMapper.getUserById(Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 변경 전 기업 (카운터 증감 계산용, 숫자가 아닌 ID 는 null)
+    private Company findCompany(String companyId) {
+        try {
+            return companyMapper.companyDetail(Long.parseLong(companyId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 기업 변경 이벤트 발행 (자동완성 등 갱신용)
+    private void publishCompanyChanged(String companyId) {
+        try {
+            eventPublisher.publishEvent(new CompanyChangedEvent(Long.parseLong(companyId)));
+        } catch (NumberFormatException ignored) {
+            // 숫자가 아닌 ID 는 변경된 기업이 없음
+        }
+    }
+
+    // 채용공고 변경 이벤트 발행 (검색 색인 등 갱신용)
+    private void publishJobPostChanged(String jobPostId) {
+        try {
+            eventPublisher.publishEvent(JobPostChangedEvent.ofJobPost(Long.parseLong(jobPostId)));
+        } catch (NumberFormatException ignored) {
+            // 숫자가 아닌 ID 는 변경된 공고가 없음
+        }
     }
 
     @Override
@@ -132,6 +243,11 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public Map<String, Object> getDashboardStats() {
+        // 증감으로 유지하는 카운터를 읽고, 초기 적재 전에만 DB 에서 직접 센다
+        if (dashboardCounters.isReady()) {
+            return dashboardCounters.snapshot();
+        }
+
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalUsers", adminMapper.countTotalUsers());
         stats.put("totalCompanies", adminMapper.countTotalCompanies());
@@ -151,17 +267,46 @@ public class AdminServiceImpl implements AdminService {
         return adminMapper.getRecentJobPosts();
     }
     @Override
-    public List<Map<String, Object>> getJobCategoryStats() {
-        return adminMapper.getJobCategoryStats();
+    public List<Map<String, Object>> getJobCategoryStats(LocalDateTime from, LocalDateTime to) {
+        if (statsRollup.isReady()) {
+            return statsRollup.stats(StatsRollup.Dimension.JOB_CATEGORY, from, to, 10);
+        }
+        return isRange(from, to) ? new ArrayList<>() : adminMapper.getJobCategoryStats();
     }
 
     @Override
-    public List<Map<String, Object>> getJobTypeStats() {
-        return adminMapper.getJobTypeStats();
+    public List<Map<String, Object>> getJobTypeStats(LocalDateTime from, LocalDateTime to) {
+        if (statsRollup.isReady()) {
+            return statsRollup.stats(StatsRollup.Dimension.JOB_TYPE, from, to, null);
+        }
+        return isRange(from, to) ? new ArrayList<>() : adminMapper.getJobTypeStats();
     }
 
     @Override
-    public List<Map<String, Object>> getUserRegionStats() {
-        return adminMapper.getUserRegionStats();
+    public List<Map<String, Object>> getUserRegionStats(LocalDateTime from, LocalDateTime to) {
+        if (statsRollup.isReady()) {
+            return statsRollup.stats(StatsRollup.Dimension.USER_REGION, from, to, 10);
+        }
+        return isRange(from, to) ? new ArrayList<>() : adminMapper.getUserRegionStats();
+    }
+
+    @Override
+    public List<Map<String, Object>> getStatsTrend(String dimension, LocalDateTime from, LocalDateTime to, String granularity) {
+        StatsRollup.Dimension statsDimension = switch (dimension) {
+            case "job-categories" -> StatsRollup.Dimension.JOB_CATEGORY;
+            case "job-types" -> StatsRollup.Dimension.JOB_TYPE;
+            case "user-regions" -> StatsRollup.Dimension.USER_REGION;
+            default -> throw new IllegalArgumentException("지원하지 않는 통계 종류: " + dimension);
+        };
+        // 롤업이 없으면 기간별 증감을 알 수 없음
+        if (!statsRollup.isReady()) {
+            return new ArrayList<>();
+        }
+        return statsRollup.trend(statsDimension, from, to, granularity);
+    }
+
+    // 기간별 증감은 롤업에만 있으므로 롤업이 없으면 빈 결과
+    private static boolean isRange(LocalDateTime from, LocalDateTime to) {
+        return from != null || to != null;
     }
 }
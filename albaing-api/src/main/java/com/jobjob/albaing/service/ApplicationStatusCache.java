@@ -0,0 +1,128 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.ApplicationStatusCounts;
+import com.jobjob.albaing.event.ApplicationStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 이력서별 지원 현황 (전체/승인 대기/합격/불합격 개수) 캐시
+ * 지원, 지원 상태 변경이 커밋되면 캐시된 개수를 바로 증감하므로 마이페이지 위젯은 보통 조회 없이 응답한다.
+ * (롤백된 변경은 반영하지 않는다)
+ * 이력서나 공고 삭제로 지원 내역이 FK 로 함께 지워지는 경우는 증감할 수 없으므로 TTL (10분) 뒤 다시 읽는다.
+ */
+@Component
+public class ApplicationStatusCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "applicationStatus";
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final long MAX_WEIGHT = 4 * 1024 * 1024L;      // 추정 바이트
+    private static final int ENTRY_WEIGHT = 128;
+
+    private final TinyLfuCache<Integer, Counts> cache =
+        new TinyLfuCache<>(MAX_WEIGHT, TTL_MILLIS, counts -> ENTRY_WEIGHT);
+
+    // 변경이 있을 때마다 증가. 조회 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    // 캐시 항목 (증감은 항목을 바꾸지 않고 그 자리에서 한다)
+    private static final class Counts {
+        final AtomicInteger total;
+        final AtomicInteger approving;
+        final AtomicInteger approved;
+        final AtomicInteger denied;
+
+        Counts(ApplicationStatusCounts counts) {
+            total = new AtomicInteger(counts.getTotalApplications());
+            approving = new AtomicInteger(counts.getApproving());
+            approved = new AtomicInteger(counts.getApproved());
+            denied = new AtomicInteger(counts.getDenied());
+        }
+
+        // 상태별 개수 (approving, approved, denied 외의 상태는 전체 개수에만 포함)
+        AtomicInteger of(String status) {
+            if (status == null) {
+                return null;
+            }
+            return switch (status) {
+                case "approving" -> approving;
+                case "approved" -> approved;
+                case "denied" -> denied;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 지원 현황 조회 (없으면 loader 로 읽어서 저장)
+     * 응답 키는 기존 API 와 같다 (totalApplications, approving, approved, denied).
+     */
+    public Map<String, Object> get(int resumeId, IntFunction<ApplicationStatusCounts> loader) {
+        Counts counts = cache.get(resumeId);
+        if (counts == null) {
+            long startGeneration = generation.get();
+            counts = new Counts(loader.apply(resumeId));
+            cache.put(resumeId, counts, () -> generation.get() == startGeneration);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalApplications", counts.total.get());
+        result.put("approving", counts.approving.get());
+        result.put("approved", counts.approved.get());
+        result.put("denied", counts.denied.get());
+        return result;
+    }
+
+    // 지원, 지원 상태 변경 커밋 후 증감
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        generation.incrementAndGet();
+        for (ApplicationStatusChangedEvent.Change change : event.getChanges()) {
+            if (event.isApplied()) {
+                applied(change.resumeId());
+            } else {
+                statusChanged(change.resumeId(), change.before(), change.after());
+            }
+        }
+    }
+
+    // 지원 (승인 대기 상태로 추가됨)
+    private void applied(int resumeId) {
+        Counts counts = cache.peek(resumeId);
+        if (counts != null) {
+            counts.total.incrementAndGet();
+            counts.approving.incrementAndGet();
+        }
+    }
+
+    // 지원 상태 변경
+    private void statusChanged(int resumeId, String before, String after) {
+        Counts counts = cache.peek(resumeId);
+        if (counts == null || Objects.equals(before, after)) {
+            return;
+        }
+        AtomicInteger from = counts.of(before);
+        AtomicInteger to = counts.of(after);
+        if (from != null) {
+            from.decrementAndGet();
+        }
+        if (to != null) {
+            to.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, CACHE_NAME);
+    }
+}
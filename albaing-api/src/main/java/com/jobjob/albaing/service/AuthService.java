@@ -30,6 +30,12 @@ public interface AuthService {
 
     boolean isCompanyPhoneExist(String companyPhone);
 
+    /**
+     * 인증번호 발송 전 회원/기업 이메일 중복 확인 (Bloom filter 로 없는 값은 DB 조회 생략)
+     * 필터는 서버별이라 다른 서버에서 방금 가입한 이메일은 놓칠 수 있으므로, 가입/로그인의 최종 확인은 isUserExist 등 DB 조회로 한다.
+     */
+    boolean isEmailRegistered(String email);
+
     User getUserByEmail(String email);
 
     void validateUserInput(User user);
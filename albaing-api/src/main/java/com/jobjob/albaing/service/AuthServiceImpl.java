@@ -26,6 +26,12 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     @Lazy
     private VerificationServiceImpl verificationService;
+    @Autowired
+    private DashboardCounters dashboardCounters;
+    @Autowired
+    private StatsRollup statsRollup;
+    @Autowired
+    private ContactBloomFilters contactBloomFilters;
 
     @Override
     public Map<String, Object> loginUser(String userEmail, String userPassword) {
@@ -155,8 +161,12 @@ public class AuthServiceImpl implements AuthService {
             // **DEBUG: 프로필 이미지 확인**
             System.out.println("DEBUG: 저장될 userProfileImage = " + user.getUserProfileImage());
 
-            // 회원가입 실행
+            // 회원가입 실행 (중복체크 필터에는 저장 전후로 추가)
+            contactBloomFilters.addUser(user.getUserEmail(), user.getUserPhone());
             userMapper.registerUser(user);
+            contactBloomFilters.addUser(user.getUserEmail(), user.getUserPhone());
+            dashboardCounters.increment(DashboardCounters.Counter.TOTAL_USERS);
+            statsRollup.userChanged(null, user);
 
             // 회원가입 완료 후 이메일 인증 정보 삭제
             verificationService.removeEmailVerification(user.getUserEmail());
@@ -231,8 +241,11 @@ public class AuthServiceImpl implements AuthService {
             // **DEBUG: 저장될 companyLogo 확인**
             System.out.println("DEBUG: 저장될 companyLogo = " + company.getCompanyLogo());
 
-            // ✅ 회원가입 실행
+            // ✅ 회원가입 실행 (중복체크 필터에는 저장 전후로 추가)
+            contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
             companyMapper.registerCompany(company);
+            contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
+            dashboardCounters.companyRegistered(company);
 
             // ✅ 이메일 인증 정보 삭제
             verificationService.removeEmailVerification(company.getCompanyEmail());
@@ -270,6 +283,13 @@ public class AuthServiceImpl implements AuthService {
         return companyMapper.isCompanyPhoneExist(companyPhone);
     }
 
+    @Override
+    public boolean isEmailRegistered(String email) {
+        // 필터에 없으면 (이 서버 기준) 확실히 없는 값이므로 DB 조회 생략
+        return (contactBloomFilters.mightExist(ContactBloomFilters.Kind.USER_EMAIL, email) && userMapper.isUserExist(email))
+            || (contactBloomFilters.mightExist(ContactBloomFilters.Kind.COMPANY_EMAIL, email) && companyMapper.isCompanyExist(email));
+    }
+
     @Override
     public User getUserByEmail(String email) { // KakaoAPIController 에서 필요
         return userMapper.getUserByEmail(email);
@@ -1,8 +1,10 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.event.CompanyChangedEvent;
 import com.jobjob.albaing.mapper.CompanyMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,6 +16,15 @@ public class CompanyServiceImpl implements CompanyService {
     @Autowired
     private CompanyMapper companyMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private ContactBloomFilters contactBloomFilters;
+
     // 모든 회사 목록 조회
     @Override
     public List<Company> getAllCompanies() {
@@ -29,14 +40,23 @@ public class CompanyServiceImpl implements CompanyService {
     // 회사 상세 정보 수정
     @Override
     public void updateDetail(Company company) {
+        // 이메일, 전화번호가 바뀔 수 있으므로 중복체크 필터에 저장 전후로 추가
+        contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
         companyMapper.updateDetail(company);
+        contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
+        if (company.getCompanyId() != null) {
+            eventPublisher.publishEvent(new CompanyChangedEvent(company.getCompanyId()));
+        }
     }
 
 
     // 회사 등록
     @Override
     public void registerCompany(Company company) {
+        contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
         companyMapper.registerCompany(company);
+        contactBloomFilters.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
+        dashboardCounters.companyRegistered(company);
     }
 
     // 회사명으로 검색
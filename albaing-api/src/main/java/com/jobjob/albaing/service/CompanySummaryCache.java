@@ -0,0 +1,109 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.CompanySummary;
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기업 ID 별 요약 정보 (기업명, 로고) 캐시
+ * 채용공고 조회 쿼리는 JOB_POSTS 만 읽고, 응답에 필요한 기업명/로고는 여기서 채운다 (companies JOIN 제거).
+ * 기업 정보 수정, 승인 상태 변경, 삭제 시 (CompanyChangedEvent) 해당 기업만 지운다.
+ */
+@Component
+public class CompanySummaryCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "companySummary";
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final long MAX_WEIGHT = 4 * 1024 * 1024L;     // 추정 바이트
+    private static final int BASE_WEIGHT = 128;
+
+    // IN 절 한 번에 넣는 기업 ID 수
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    private final TinyLfuCache<Long, CompanySummary> cache =
+        new TinyLfuCache<>(MAX_WEIGHT, TTL_MILLIS, CompanySummaryCache::weigh);
+
+    // 변경이 있을 때마다 증가. 조회 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    // 공고 한 건에 기업명, 로고 채우기 (null 이면 그대로 null)
+    public JobPost fill(JobPost jobPost) {
+        if (jobPost != null) {
+            fill(List.of(jobPost));
+        }
+        return jobPost;
+    }
+
+    /**
+     * 공고 목록에 기업명, 로고 채우기
+     * 캐시에 없는 기업만 한 번에 조회하고, 없는 기업 (삭제됨) 의 공고는 LEFT JOIN 처럼 null 로 둔다.
+     */
+    public <T extends Collection<JobPost>> T fill(T jobPosts) {
+        Map<Long, CompanySummary> found = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (JobPost jobPost : jobPosts) {
+            long companyId = jobPost.getCompanyId();
+            if (found.containsKey(companyId) || misses.contains(companyId)) {
+                continue;
+            }
+            CompanySummary cached = cache.get(companyId);
+            if (cached != null) {
+                found.put(companyId, cached);
+            } else {
+                misses.add(companyId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long startGeneration = generation.get();
+            List<Long> ids = new ArrayList<>(misses);
+            for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+                for (CompanySummary summary : companyMapper.selectCompanySummaries(batch)) {
+                    found.put(summary.getCompanyId(), summary);
+                    cache.put(summary.getCompanyId(), summary, () -> generation.get() == startGeneration);
+                }
+            }
+        }
+
+        for (JobPost jobPost : jobPosts) {
+            CompanySummary summary = found.get(jobPost.getCompanyId());
+            jobPost.setCompanyName(summary == null ? null : summary.getCompanyName());
+            jobPost.setCompanyLogo(summary == null ? null : summary.getCompanyLogo());
+        }
+        return jobPosts;
+    }
+
+    private static int weigh(CompanySummary summary) {
+        int chars = (summary.getCompanyName() == null ? 0 : summary.getCompanyName().length())
+            + (summary.getCompanyLogo() == null ? 0 : summary.getCompanyLogo().length());
+        return BASE_WEIGHT + chars * 2;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, CACHE_NAME);
+    }
+
+    // 공고 캐시/색인이 다시 읽을 때 새 기업 정보를 쓰도록 가장 먼저 지운다
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        generation.incrementAndGet();
+        cache.remove(event.getCompanyId());
+    }
+}
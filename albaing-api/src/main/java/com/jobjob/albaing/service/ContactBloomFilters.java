@@ -0,0 +1,283 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.AdminMapper;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.UserMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.ibatis.session.ResultHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원/기업 이메일, 전화번호 중복체크 앞단의 Bloom filter
+ * 필터에 없으면 (확실히 없는 값) DB 를 조회하지 않고, 있을 수도 있으면 기존처럼 COUNT 쿼리로 확인한다.
+ * - 필터는 서버별이라 다른 서버에서 가입한 값은 다음에 다시 만들 때까지 빠져 있다.
+ *   그래서 인증번호 발송 전 확인에만 쓰고, 가입과 소셜 로그인의 중복 확인은 항상 DB 로 한다.
+ * - 서버 기동 시 전체 회원/기업으로 만들고, 가입/정보 수정 시 저장 전에 새 값을 넣는다.
+ * - 탈퇴, 삭제된 값은 필터에서 뺄 수 없으므로 30분마다 (예상 개수를 넘으면 바로) 새로 만든다.
+ *   다시 만드는 동안 들어온 값은 새 필터에도 넣으므로 교체 후 누락되지 않는다.
+ * - DB 비교 (대소문자, 뒤 공백 무시) 보다 넓게 정규화해야 필터에 없다는 판단이 틀리지 않으므로
+ *   이메일은 앞뒤 공백 제거 후 소문자, 전화번호는 숫자만 남긴다. ASCII 가 아닌 이메일은 필터를 쓰지 않는다.
+ * 건너뛴 조회 수는 contact.filter.checks{result=negative} 지표로 노출한다.
+ */
+@Component
+public class ContactBloomFilters implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactBloomFilters.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long REBUILD_INTERVAL_MILLIS = 30 * 60 * 1000L;
+
+    // 다시 만들기 전까지 늘어날 가입자를 감안한 여유 (현재 개수의 2배, 최소 1만)
+    private static final long MIN_EXPECTED_INSERTIONS = 10_000;
+
+    public enum Kind {
+        USER_EMAIL, USER_PHONE, COMPANY_EMAIL, COMPANY_PHONE
+    }
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private AdminMapper adminMapper;
+
+    private final Side users = new Side();
+    private final Side companies = new Side();
+
+    private final Map<Kind, LongAdder> negatives = new EnumMap<>(Kind.class);
+    private final Map<Kind, LongAdder> maybes = new EnumMap<>(Kind.class);
+
+    // 이메일, 전화번호 필터 한 쌍
+    private record Filters(BloomFilter email, BloomFilter phone) {
+
+        static Filters create(long expectedInsertions) {
+            return new Filters(new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE),
+                new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE));
+        }
+
+        BloomFilter of(Kind kind) {
+            return kind == Kind.USER_EMAIL || kind == Kind.COMPANY_EMAIL ? email : phone;
+        }
+
+        boolean isSaturated() {
+            return email.isSaturated() || phone.isSaturated();
+        }
+    }
+
+    // 회원 또는 기업 쪽 필터 (current 는 읽기 락 없이 읽고, current/building 교체는 쓰기 락 안에서)
+    private static final class Side {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        volatile Filters current;       // 아직 만들지 않았으면 null
+        Filters building;               // 다시 만드는 중인 필터
+        volatile long builtAt;
+    }
+
+    public ContactBloomFilters() {
+        for (Kind kind : Kind.values()) {
+            negatives.put(kind, new LongAdder());
+            maybes.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * 이미 있을 수도 있는 값이면 true (DB 로 확인 필요), 확실히 없는 값이면 false
+     * 필터를 아직 만들지 않았거나 필터로 판단할 수 없는 값이면 true 를 돌려준다.
+     */
+    public boolean mightExist(Kind kind, String value) {
+        String key = normalize(kind, value);
+        Filters filters = sideOf(kind).current;
+        if (key == null || filters == null) {
+            return true;
+        }
+        boolean maybe = filters.of(kind).mightContain(key);
+        (maybe ? maybes : negatives).get(kind).increment();
+        return maybe;
+    }
+
+    /**
+     * 회원 이메일, 전화번호 추가
+     * DB 저장 전후로 한 번씩 호출한다. 저장 전에 넣어야 저장 중의 중복체크가 필터를 통과하지 못하고,
+     * 저장 후에 한 번 더 넣어야 그 사이 다시 만들기 시작한 필터 (저장 전 조회) 에도 들어간다.
+     */
+    public void addUser(String email, String phone) {
+        add(Kind.USER_EMAIL, email);
+        add(Kind.USER_PHONE, phone);
+    }
+
+    // 기업 이메일, 전화번호 추가 (addUser 와 같이 저장 전후로 호출)
+    public void addCompany(String email, String phone) {
+        add(Kind.COMPANY_EMAIL, email);
+        add(Kind.COMPANY_PHONE, phone);
+    }
+
+    private void add(Kind kind, String value) {
+        String key = normalize(kind, value);
+        if (key == null) {
+            return;
+        }
+        Side side = sideOf(kind);
+        side.lock.readLock().lock();
+        try {
+            if (side.current != null) {
+                side.current.of(kind).put(key);
+            }
+            if (side.building != null) {
+                side.building.of(kind).put(key);
+            }
+        } finally {
+            side.lock.readLock().unlock();
+        }
+    }
+
+    private Side sideOf(Kind kind) {
+        return kind == Kind.USER_EMAIL || kind == Kind.USER_PHONE ? users : companies;
+    }
+
+    // 필터 키 (null 이면 필터로 판단하지 않음)
+    static String normalize(Kind kind, String value) {
+        if (value == null) {
+            return null;
+        }
+        if (kind == Kind.USER_PHONE || kind == Kind.COMPANY_PHONE) {
+            StringBuilder digits = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c > 0x7F) {
+                    return null;
+                }
+                if (c >= '0' && c <= '9') {
+                    digits.append(c);
+                }
+            }
+            return digits.toString();
+        }
+        String email = value.trim();
+        for (int i = 0; i < email.length(); i++) {
+            if (email.charAt(i) > 0x7F) {
+                return null;
+            }
+        }
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildUsers();
+        rebuildCompanies();
+    }
+
+    // 삭제 반영 주기가 지났거나 예상 개수를 넘은 필터를 새로 만듦
+    @Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+    public void maintain() {
+        if (needsRebuild(users)) {
+            rebuildUsers();
+        }
+        if (needsRebuild(companies)) {
+            rebuildCompanies();
+        }
+    }
+
+    private void rebuildUsers() {
+        rebuild(users, "회원", adminMapper::countTotalUsers, userMapper::scanUserContacts);
+    }
+
+    private void rebuildCompanies() {
+        rebuild(companies, "기업", adminMapper::countTotalCompanies, companyMapper::scanCompanyContacts);
+    }
+
+    private static boolean needsRebuild(Side side) {
+        Filters current = side.current;
+        return current == null
+            || current.isSaturated()
+            || System.currentTimeMillis() - side.builtAt >= REBUILD_INTERVAL_MILLIS;
+    }
+
+    private interface ContactScanner {
+        void scan(ResultHandler<Map<String, Object>> handler);
+    }
+
+    private void rebuild(Side side, String label, LongSupplier count, ContactScanner scanner) {
+        Filters next;
+        try {
+            next = Filters.create(Math.max(MIN_EXPECTED_INSERTIONS, count.getAsLong() * 2));
+        } catch (Exception e) {
+            logger.warn("{} 중복체크 필터 생성 실패 (기존 필터 유지, 다음 주기에 재시도)", label, e);
+            return;
+        }
+
+        // 조회 시작 전에 building 을 걸어야 조회에 안 잡힌 신규 가입도 새 필터에 들어간다
+        side.lock.writeLock().lock();
+        try {
+            side.building = next;
+        } finally {
+            side.lock.writeLock().unlock();
+        }
+
+        boolean built = false;
+        try {
+            scanner.scan(context -> {
+                Map<String, Object> row = context.getResultObject();
+                putIfPresent(next.email(), normalize(Kind.USER_EMAIL, (String) row.get("email")));
+                putIfPresent(next.phone(), normalize(Kind.USER_PHONE, (String) row.get("phone")));
+            });
+            built = true;
+        } catch (Exception e) {
+            logger.warn("{} 중복체크 필터 생성 실패 (기존 필터 유지, 다음 주기에 재시도)", label, e);
+        } finally {
+            side.lock.writeLock().lock();
+            try {
+                if (built) {
+                    side.current = next;
+                    side.builtAt = System.currentTimeMillis();
+                }
+                side.building = null;
+            } finally {
+                side.lock.writeLock().unlock();
+            }
+        }
+        if (built) {
+            logger.debug("{} 중복체크 필터 생성 ({}건)", label, next.email().insertions());
+        }
+    }
+
+    private static void putIfPresent(BloomFilter filter, String key) {
+        if (key != null) {
+            filter.put(key);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Kind kind : Kind.values()) {
+            String filter = kind.name().toLowerCase(Locale.ROOT);
+            register(registry, filter, "negative", negatives.get(kind));
+            register(registry, filter, "maybe", maybes.get(kind));
+        }
+    }
+
+    private static void register(MeterRegistry registry, String filter, String result, LongAdder counter) {
+        FunctionCounter.builder("contact.filter.checks", counter, LongAdder::sum)
+            .tag("filter", filter)
+            .tag("result", result)
+            .description("중복체크 Bloom filter 판단 수 (negative 는 DB 조회를 건너뜀)")
+            .register(registry);
+    }
+}
@@ -0,0 +1,435 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.DailyDigestRun;
+import com.jobjob.albaing.dto.DigestRecipient;
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.Scrap;
+import com.jobjob.albaing.mapper.DailyDigestMapper;
+import com.jobjob.albaing.model.vo.DailyDigestMail;
+import com.jobjob.albaing.model.vo.SavedSearchDigestMail;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일일 맞춤 공고 다이제스트 발송
+ * 하루 한 번 회원마다 "이력서 희망 조건에 맞는 어제 올라온 공고" 와 "3일 안에 마감되는 스크랩 공고" 를 메일 한 통으로 보낸다.
+ * - 회원은 목록으로 읽지 않고 회원 번호 순으로 Cursor 로 한 건씩 읽는다.
+ * - 공고는 회원마다 조회하지 않고 메인 페이지 피드 스냅샷 (MainPageFeed) 으로 시작할 때 한 번 색인을 만든다.
+ *   새 공고는 근무지 / 근무 기간별로 (맞춤 공고와 같은 기준), 마감 임박 공고는 스크랩한 회원별로 모은다.
+ * - 메일은 50통씩 SMTP 연결 하나로, 초당 10통을 넘지 않게 보낸다.
+ * - 묶음을 보낼 때마다 마지막 회원 번호를 DAILY_DIGEST_RUNS 에 기록하므로, 서버가 내려가면
+ *   다음 주기 (10분마다, 8시~20시) 에 점유가 만료된 뒤 다른 서버나 재시작한 서버가 그 다음 회원부터 이어서 보낸다.
+ *   SMTP 장애로 보내지 못하면 그 회원부터 다음 주기에 다시 보낸다. 그날 못 보낸 회원은 다음 날로 넘기지 않는다.
+ * 발송 결과 수는 daily.digest{result=sent|failed|skipped} 지표로 노출한다 (DDL: resources/sql/daily_digest.sql).
+ */
+@Component
+public class DailyDigest implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyDigest.class);
+
+    private static final int CLOSING_DAYS = 3;
+    private static final int MAX_NEW_POSTS = 10;
+    private static final int MAX_CLOSING_POSTS = 10;
+    private static final int USERS_PER_CONNECTION = 50;
+    private static final long NANOS_PER_MAIL = TimeUnit.SECONDS.toNanos(1) / 10;
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long LEASE_MINUTES = 5;
+    private static final int SCRAP_QUERY_CHUNK = 1000;
+    private static final int RUN_RETENTION_DAYS = 30;
+
+    // 마감일 오름차순, 같은 마감일은 최근 공고 우선 (MainPageFeed 와 같은 순서)
+    private static final Comparator<JobPost> DUE_DATE_ORDER = Comparator
+        .comparing(JobPost::getJobPostDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(JobPost::getJobPostId, Comparator.reverseOrder());
+
+    @Autowired
+    private DailyDigestMapper dailyDigestMapper;
+
+    @Autowired
+    private MainPageFeed mainPageFeed;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private MailTemplates mailTemplates;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 발송은 스케줄러 스레드를 막지 않도록 가상 스레드에서 하고, 한 번에 하나만 돌림
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private record Bucket(String location, String duration) {
+    }
+
+    /**
+     * 그날 보낼 공고 색인 (한 번 실행하는 동안만 쓰고, 발송 스레드 하나에서만 접근)
+     * 희망 조건 조합별 새 공고 목록은 처음 필요할 때 합쳐서 재사용한다.
+     */
+    private record Index(Map<String, List<JobPost>> newByWorkPlace,
+                         Map<String, List<JobPost>> newByWorkingPeriod,
+                         Map<Long, List<JobPost>> closingByUser,
+                         Map<Bucket, List<JobPost>> pools) {
+
+        // 기존 맞춤 공고와 같은 기준 (근무지 또는 근무 기간 일치)
+        List<JobPost> newPosts(String location, String duration) {
+            return pools.computeIfAbsent(new Bucket(location, duration), k -> {
+                Set<JobPost> merged = Collections.newSetFromMap(new IdentityHashMap<>());
+                if (location != null) {
+                    merged.addAll(newByWorkPlace.getOrDefault(location, List.of()));
+                }
+                if (duration != null) {
+                    merged.addAll(newByWorkingPeriod.getOrDefault(duration, List.of()));
+                }
+                List<JobPost> pool = new ArrayList<>(merged);
+                pool.sort(DUE_DATE_ORDER);
+                return pool;
+            });
+        }
+
+        // 보낼 공고가 없으면 null
+        DailyDigestMail digestOf(DigestRecipient recipient) {
+            List<JobPost> fresh = newPosts(recipient.getResumeLocation(), recipient.getResumeJobDuration());
+            List<JobPost> closing = closingByUser.getOrDefault(recipient.getUserId(), List.of());
+            if (fresh.isEmpty() && closing.isEmpty()) {
+                return null;
+            }
+            List<JobPost> shown = fresh.subList(0, Math.min(MAX_NEW_POSTS, fresh.size()));
+            return new DailyDigestMail(
+                recipient.getUserName() == null ? "회원" : recipient.getUserName(),
+                toPosts(shown),
+                fresh.size() - shown.size(),
+                toPosts(closing.subList(0, Math.min(MAX_CLOSING_POSTS, closing.size()))));
+        }
+
+        private static List<SavedSearchDigestMail.Post> toPosts(List<JobPost> posts) {
+            List<SavedSearchDigestMail.Post> result = new ArrayList<>(posts.size());
+            for (JobPost post : posts) {
+                result.add(new SavedSearchDigestMail.Post(post.getJobPostId(), post.getJobPostTitle(),
+                    post.getCompanyName(), post.getJobPostWorkPlace(), post.getJobPostDueDate()));
+            }
+            return result;
+        }
+    }
+
+    // 8시부터 20시까지 10분마다: 그날 처음이면 시작하고, 멈춘 발송이 있으면 이어서 보냄 (완료됐으면 아무것도 안 함)
+    @Scheduled(cron = "0 */10 8-20 * * *")
+    public void schedule() {
+        if (running.compareAndSet(false, true)) {
+            LocalDate digestDate = LocalDate.now();
+            Thread.ofVirtual().name("daily-digest").start(() -> {
+                try {
+                    run(digestDate);
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    void run(LocalDate digestDate) {
+        if (!mainPageFeed.isReady()) {
+            return;     // 공고 스냅샷이 만들어진 뒤 다음 주기에
+        }
+        String ownerToken = UUID.randomUUID().toString();
+        try {
+            dailyDigestMapper.insertRun(digestDate);
+            if (dailyDigestMapper.acquireRun(digestDate, ownerToken, LEASE_MINUTES) == 0) {
+                return;
+            }
+        } catch (Exception e) {
+            logger.warn("일일 다이제스트 시작 실패 (다음 주기에 재시도)", e);
+            return;
+        }
+
+        boolean done = false;
+        try {
+            DailyDigestRun run = dailyDigestMapper.selectRun(digestDate);
+            if (run.getLastUserId() > 0) {
+                logger.info("일일 다이제스트 이어서 발송 (회원 번호 {} 다음부터)", run.getLastUserId());
+            }
+            done = stream(new Pass(digestDate, ownerToken, run.getLastUserId(), buildIndex(digestDate)));
+            if (done) {
+                dailyDigestMapper.deleteRunsBefore(digestDate.minusDays(RUN_RETENTION_DAYS));
+            }
+        } catch (Exception e) {
+            logger.warn("일일 다이제스트 발송 중단 (다음 주기에 이어서 발송)", e);
+        } finally {
+            try {
+                dailyDigestMapper.releaseRun(digestDate, ownerToken, done);
+            } catch (Exception e) {
+                // 해제하지 못하면 점유가 만료된 뒤 다음 주기에 이어서 보낸다
+                logger.warn("일일 다이제스트 점유 해제 실패", e);
+            }
+        }
+    }
+
+    private Index buildIndex(LocalDate digestDate) {
+        LocalDateTime newFrom = digestDate.minusDays(1).atStartOfDay();
+        LocalDateTime newUntil = digestDate.atStartOfDay();
+        LocalDate closingUntil = digestDate.plusDays(CLOSING_DAYS);
+
+        Map<String, List<JobPost>> newByWorkPlace = new HashMap<>();
+        Map<String, List<JobPost>> newByWorkingPeriod = new HashMap<>();
+        Map<Long, JobPost> closing = new HashMap<>();
+        for (JobPost post : mainPageFeed.openJobPosts()) {
+            if (!Boolean.TRUE.equals(post.getJobPostStatus())
+                || post.getJobPostDueDate() == null || !post.getJobPostDueDate().isAfter(digestDate)) {
+                continue;
+            }
+            LocalDateTime createdAt = post.getJobPostCreatedAt();
+            if (createdAt != null && !createdAt.isBefore(newFrom) && createdAt.isBefore(newUntil)) {
+                if (post.getJobPostWorkPlace() != null) {
+                    newByWorkPlace.computeIfAbsent(post.getJobPostWorkPlace(), k -> new ArrayList<>()).add(post);
+                }
+                if (post.getJobPostWorkingPeriod() != null) {
+                    newByWorkingPeriod.computeIfAbsent(post.getJobPostWorkingPeriod(), k -> new ArrayList<>()).add(post);
+                }
+            }
+            if (!post.getJobPostDueDate().isAfter(closingUntil)) {
+                closing.put(post.getJobPostId(), post);
+            }
+        }
+
+        Map<Long, List<JobPost>> closingByUser = new HashMap<>();
+        List<Long> ids = new ArrayList<>(closing.keySet());
+        for (int from = 0; from < ids.size(); from += SCRAP_QUERY_CHUNK) {
+            dailyDigestMapper.scanScrapsByJobPostIds(ids.subList(from, Math.min(from + SCRAP_QUERY_CHUNK, ids.size())),
+                context -> {
+                    Scrap scrap = context.getResultObject();
+                    JobPost post = closing.get((long) scrap.getJobPostId());
+                    if (post != null) {
+                        closingByUser.computeIfAbsent((long) scrap.getUserId(), k -> new ArrayList<>()).add(post);
+                    }
+                });
+        }
+        closingByUser.values().forEach(posts -> posts.sort(DUE_DATE_ORDER));
+
+        logger.debug("일일 다이제스트 색인 (새 공고 근무지 {}곳, 마감 임박 공고 {}건, 스크랩 회원 {}명)",
+            newByWorkPlace.size(), closing.size(), closingByUser.size());
+        return new Index(newByWorkPlace, newByWorkingPeriod, closingByUser, new HashMap<>());
+    }
+
+    /**
+     * 회원을 Cursor 로 읽으면서 발송 (끝까지 보냈으면 true)
+     * Cursor 는 트랜잭션 (연결) 안에서만 읽을 수 있고, MySQL 스트리밍 중에는 같은 연결로 다른 쿼리를 못 하므로
+     * 발송 위치 기록은 별도 트랜잭션 (REQUIRES_NEW, 다른 연결) 으로 한다.
+     */
+    private boolean stream(Pass pass) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return Boolean.TRUE.equals(readOnly.execute(status -> {
+            try (Cursor<DigestRecipient> cursor = dailyDigestMapper.streamRecipients(pass.lastUserId)) {
+                long previousUserId = pass.lastUserId;
+                for (DigestRecipient recipient : cursor) {
+                    if (recipient.getUserId() == previousUserId) {
+                        continue;   // 이력서가 여러 개면 첫 이력서만
+                    }
+                    previousUserId = recipient.getUserId();
+                    if (!pass.add(recipient)) {
+                        return false;
+                    }
+                }
+                return pass.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    // 한 번 실행하는 동안의 발송 상태 (발송 스레드 하나에서만 접근)
+    private class Pass {
+
+        private final LocalDate digestDate;
+        private final String ownerToken;
+        private final Index index;
+        private final TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+
+        // 지금 묶음의 메일과 수신 회원 (같은 순서)
+        private final List<MimeMessage> messages = new ArrayList<>(USERS_PER_CONNECTION);
+        private final List<Long> userIds = new ArrayList<>(USERS_PER_CONNECTION);
+
+        // 마지막으로 처리한 회원 (기록 전)
+        private long lastUserId;
+        private int pendingFailed;
+        private int pendingSkipped;
+        private long lastCheckpointAt = System.nanoTime();
+        private long nextSendAt = System.nanoTime();
+
+        Pass(LocalDate digestDate, String ownerToken, long lastUserId, Index index) {
+            this.digestDate = digestDate;
+            this.ownerToken = ownerToken;
+            this.lastUserId = lastUserId;
+            this.index = index;
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        // 회원 한 명 처리 (계속 보내도 되면 true)
+        boolean add(DigestRecipient recipient) {
+            DailyDigestMail mail = index.digestOf(recipient);
+            if (mail == null || recipient.getUserEmail() == null) {
+                pendingSkipped++;
+            } else {
+                try {
+                    messages.add(createMessage(recipient.getUserEmail(), mail));
+                    userIds.add(recipient.getUserId());
+                } catch (MessagingException e) {
+                    // 다시 만들어도 실패하므로 건너뜀
+                    logger.warn("일일 다이제스트 메일 생성 실패: userId={}", recipient.getUserId(), e);
+                    pendingFailed++;
+                }
+            }
+            lastUserId = recipient.getUserId();
+
+            // 묶음이 찼거나, 보낼 회원이 드물어 한동안 기록하지 않았으면 (점유 연장) 보냄
+            if (messages.size() == USERS_PER_CONNECTION || System.nanoTime() - lastCheckpointAt > CHECKPOINT_INTERVAL_NANOS) {
+                return flush();
+            }
+            return true;
+        }
+
+        // 모은 메일을 SMTP 연결 하나로 보내고 발송 위치 기록 (계속 보내도 되면 true)
+        boolean flush() {
+            if (messages.isEmpty()) {
+                return checkpoint(lastUserId, 0);
+            }
+            try {
+                throttle(messages.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            Map<Object, Exception> failures = Map.of();
+            int stopAt = messages.size();   // SMTP 장애로 보내지 못한 첫 메일 (없으면 size)
+            try {
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages();
+                if (failures.isEmpty()) {
+                    stopAt = 0;
+                }
+                for (int i = 0; i < stopAt; i++) {
+                    Exception failure = failures.get(messages.get(i));
+                    // 수신자 거부가 아니면 (연결, 인증 실패 등) 이후 메일도 보내지 못한 것으로 봄
+                    if (failure != null && !(failure instanceof SendFailedException)) {
+                        stopAt = i;
+                        break;
+                    }
+                }
+                logger.warn("일일 다이제스트 일부 발송 실패 ({}/{}통)", failures.size(), messages.size(), e);
+            } catch (MailException e) {
+                stopAt = 0;
+                logger.warn("일일 다이제스트 발송 실패 ({}통)", messages.size(), e);
+            }
+
+            int delivered = 0;
+            for (int i = 0; i < stopAt; i++) {
+                if (failures.containsKey(messages.get(i))) {
+                    pendingFailed++;
+                } else {
+                    delivered++;
+                }
+            }
+            if (stopAt < messages.size()) {
+                // 보내지 못한 회원부터 다음 주기에 다시
+                if (stopAt > 0) {
+                    pendingSkipped = 0;
+                    checkpoint(userIds.get(stopAt - 1), delivered);
+                }
+                return false;
+            }
+            messages.clear();
+            userIds.clear();
+            return checkpoint(lastUserId, delivered);
+        }
+
+        // 발송 위치와 건수 기록 (점유를 잃었으면 false)
+        private boolean checkpoint(long userId, int delivered) {
+            Integer updated = requiresNew.execute(status -> dailyDigestMapper.checkpoint(
+                digestDate, ownerToken, userId, delivered, pendingFailed, pendingSkipped, LEASE_MINUTES));
+            sent.add(delivered);
+            failed.add(pendingFailed);
+            skipped.add(pendingSkipped);
+            pendingFailed = 0;
+            pendingSkipped = 0;
+            lastCheckpointAt = System.nanoTime();
+            if (updated == null || updated == 0) {
+                logger.warn("일일 다이제스트 점유를 잃음 (다른 서버가 이어서 발송)");
+                return false;
+            }
+            return true;
+        }
+
+        // 초당 발송 수 제한 (이전 묶음 크기만큼 기다린 뒤 보냄)
+        private void throttle(int count) throws InterruptedException {
+            long wait = nextSendAt - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            nextSendAt = Math.max(nextSendAt, System.nanoTime()) + count * NANOS_PER_MAIL;
+        }
+    }
+
+    private MimeMessage createMessage(String email, DailyDigestMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(email);
+        helper.setSubject(DailyDigestMail.SUBJECT);
+        helper.setText(mailTemplates.dailyDigest(mail), true);
+        return message;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "sent", sent);
+        register(registry, "failed", failed);
+        register(registry, "skipped", skipped);
+    }
+
+    private static void register(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("daily.digest", counter, LongAdder::sum)
+            .tag("result", result)
+            .description("일일 다이제스트 발송 결과 수 (회원 기준)")
+            .register(registry);
+    }
+}
@@ -0,0 +1,219 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.mapper.AdminMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 집계 카운터
+ * 대시보드를 열 때마다 COUNT(*) 5개를 실행하지 않도록 회원가입, 기업 승인, 공고 상태, 리뷰 작성/삭제 시
+ * 메모리 카운터 (LongAdder) 를 증감하고, 대시보드는 카운터 값만 읽는다.
+ * - 어느 행이 영향을 받았는지 알 수 없는 일괄 변경 (회원, 기업 삭제에 따라 FK 로 지워지는 리뷰, 공고 등) 은
+ *   해당 카운터만 stale 로 표시하고 다음 주기 (5초) 에 그 카운터만 DB 로 다시 센다.
+ * - 마감일이 지나 비활성이 되는 공고는 쓰기 없이 바뀌므로 자정 직후 활성 공고 수를 다시 센다.
+ * - 트랜잭션 롤백 등으로 생기는 오차는 주기적으로 (10분) 전체 카운터를 DB 와 맞춰서 바로잡는다.
+ * 초기 적재 전 (isReady() == false) 에는 기존처럼 DB 에서 직접 센다.
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounters.class);
+
+    public enum Counter {
+        TOTAL_USERS("totalUsers"),
+        TOTAL_COMPANIES("totalCompanies"),
+        PENDING_COMPANIES("pendingCompanies"),
+        ACTIVE_JOB_POSTS("activeJobPosts"),
+        TOTAL_REVIEWS("totalReviews");
+
+        private final String key;
+
+        Counter(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    @Autowired
+    private AdminMapper adminMapper;
+
+    private final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+
+    // 다음 주기에 DB 로 다시 셀 카운터
+    private final Set<Counter> stale = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    public DashboardCounters() {
+        for (Counter counter : Counter.values()) {
+            counters.put(counter, new LongAdder());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void add(Counter counter, long delta) {
+        if (delta != 0) {
+            counters.get(counter).add(delta);
+        }
+    }
+
+    public void increment(Counter counter) {
+        add(counter, 1);
+    }
+
+    public void decrement(Counter counter) {
+        add(counter, -1);
+    }
+
+    // 증감량을 알 수 없는 변경 (다음 주기에 DB 로 다시 셈)
+    public void markStale(Counter counter) {
+        stale.add(counter);
+    }
+
+    // 대시보드 통계 (카운터 값만 읽음)
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = new HashMap<>();
+        for (Counter counter : Counter.values()) {
+            stats.put(counter.getKey(), (int) Math.max(0, counters.get(counter).sum()));
+        }
+        return stats;
+    }
+
+    // 기업 등록 (승인 대기 상태로 등록되면 대기 수도 증가)
+    public void companyRegistered(Company company) {
+        increment(Counter.TOTAL_COMPANIES);
+        if (isPending(company)) {
+            increment(Counter.PENDING_COMPANIES);
+        }
+    }
+
+    // 기업 승인 상태 변경 (before 가 null 이면 변경 전 상태를 모르므로 다시 셈)
+    public void companyApprovalChanged(Company before, String status) {
+        if (before == null) {
+            markStale(Counter.PENDING_COMPANIES);
+            return;
+        }
+        boolean wasPending = isPending(before);
+        boolean nowPending = Company.ApprovalStatus.approving.name().equals(status);
+        add(Counter.PENDING_COMPANIES, (nowPending ? 1 : 0) - (wasPending ? 1 : 0));
+    }
+
+    // 기업 삭제 (공고, 리뷰는 FK 로 함께 지워질 수 있으므로 다시 셈)
+    public void companyDeleted(Company before) {
+        if (before == null) {
+            markStale(Counter.TOTAL_COMPANIES);
+            markStale(Counter.PENDING_COMPANIES);
+        } else {
+            decrement(Counter.TOTAL_COMPANIES);
+            if (isPending(before)) {
+                decrement(Counter.PENDING_COMPANIES);
+            }
+        }
+        markStale(Counter.ACTIVE_JOB_POSTS);
+        markStale(Counter.TOTAL_REVIEWS);
+    }
+
+    // 공고 변경 전후의 활성 여부 차이만큼 증감 (없는 공고는 null)
+    public void jobPostChanged(JobPost before, JobPost after) {
+        LocalDate today = LocalDate.now();
+        add(Counter.ACTIVE_JOB_POSTS, (isActive(after, today) ? 1 : 0) - (isActive(before, today) ? 1 : 0));
+    }
+
+    private static boolean isPending(Company company) {
+        return company.getCompanyApprovalStatus() == Company.ApprovalStatus.approving;
+    }
+
+    // countActiveJobPosts 와 같은 기준 (job_post_status = true AND job_post_due_date >= CURRENT_DATE)
+    static boolean isActive(JobPost jobPost, LocalDate today) {
+        return jobPost != null
+            && Boolean.TRUE.equals(jobPost.getJobPostStatus())
+            && jobPost.getJobPostDueDate() != null
+            && !jobPost.getJobPostDueDate().isBefore(today);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcileAll();
+    }
+
+    @Scheduled(initialDelay = 5 * 1000L, fixedDelay = 5 * 1000L)
+    public void reconcileStale() {
+        if (!ready) {
+            return;
+        }
+        for (Counter counter : Counter.values()) {
+            if (stale.contains(counter)) {
+                reconcile(counter);
+            }
+        }
+    }
+
+    // 마감일이 지난 공고는 쓰기 없이 비활성이 되므로 날짜가 바뀐 직후 다시 셈
+    @Scheduled(cron = "5 0 0 * * *")
+    public void reconcileExpired() {
+        if (ready) {
+            reconcile(Counter.ACTIVE_JOB_POSTS);
+        }
+    }
+
+    @Scheduled(initialDelay = 10 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void reconcileAll() {
+        try {
+            for (Counter counter : Counter.values()) {
+                reconcile(counter);
+            }
+            ready = true;
+        } catch (Exception e) {
+            logger.warn("대시보드 카운터 동기화 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * DB 값과의 차이만큼 보정
+     * 카운터를 덮어쓰지 않고 차이만 더하므로 보정 중에 들어온 증감도 사라지지 않는다.
+     * (COUNT 와 증감이 겹치면 잠시 한 번 더 세어질 수 있으나 다음 보정에서 맞춰진다)
+     */
+    private synchronized void reconcile(Counter counter) {
+        // 조회 중에 들어온 stale 표시는 다음 주기에 다시 반영되도록 먼저 내린다
+        stale.remove(counter);
+        LongAdder adder = counters.get(counter);
+        long before = adder.sum();
+        long actual = count(counter);
+        long drift = actual - before;
+        adder.add(drift);
+        if (ready && drift != 0) {
+            logger.debug("대시보드 카운터 보정: {} {} -> {}", counter.getKey(), before, actual);
+        }
+    }
+
+    private long count(Counter counter) {
+        return switch (counter) {
+            case TOTAL_USERS -> adminMapper.countTotalUsers();
+            case TOTAL_COMPANIES -> adminMapper.countTotalCompanies();
+            case PENDING_COMPANIES -> adminMapper.countPendingCompanies();
+            case ACTIVE_JOB_POSTS -> adminMapper.countActiveJobPosts();
+            case TOTAL_REVIEWS -> adminMapper.countTotalReviews();
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.EntityVersion;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import com.jobjob.albaing.mapper.NoticeMapper;
+import com.jobjob.albaing.mapper.ReviewMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 GET (ETag / Last-Modified) 검증값
+ * 응답 본문 (전체 행) 을 읽지 않고 수정 시각 등 최소 정보만으로 304 여부를 판단한다.
+ * - 채용공고: 공고 ID 별 검증값을 메모리에 두고 공고 변경 이벤트로 지운다.
+ *   공고 응답에 기업명/로고가 들어가므로 기업 검증값도 함께 반영한다.
+ * - 기업: 다른 서버의 승인/수정이 바로 보이도록 매번 기본 키로 조회한다 (2차 캐시 미사용).
+ * - 공지사항, 기업 리뷰 목록: 2차 캐시(MybatisCache) 를 쓰는 매퍼에서 조회하므로
+ *   쓰기 시 MyBatis 가 비우는 캐시가 그대로 검증값 캐시 역할을 한다.
+ */
+@Component
+public class EntityVersionCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jobPostVersion";
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final long MAX_WEIGHT = 2 * 1024 * 1024L;     // 추정 바이트
+    private static final int ENTRY_WEIGHT = 128;
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private NoticeMapper noticeMapper;
+
+    @Autowired
+    private ReviewMapper reviewMapper;
+
+    private final TinyLfuCache<Long, EntityVersion> jobPostVersions =
+        new TinyLfuCache<>(MAX_WEIGHT, TTL_MILLIS, version -> ENTRY_WEIGHT);
+
+    // 변경이 있을 때마다 증가. 조회 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * ETag 와 Last-Modified (epoch millis, 모르면 -1)
+     */
+    public record Validator(String etag, long lastModified) {
+    }
+
+    // 채용공고 상세 (없는 공고면 null)
+    public Validator jobPost(long jobPostId) {
+        EntityVersion version = jobPostVersions.get(jobPostId);
+        if (version == null) {
+            long startGeneration = generation.get();
+            version = jobPostMapper.selectJobPostVersion(jobPostId);
+            if (version == null) {
+                return null;
+            }
+            jobPostVersions.put(jobPostId, version, () -> generation.get() == startGeneration);
+        }
+
+        // 기업 검증값은 매번 DB 에서 읽으므로 기업 변경 시 따로 지울 필요가 없다
+        EntityVersion company = version.getOwnerId() == null ? null : companyMapper.selectCompanyVersion(version.getOwnerId());
+        long lastModified = Math.max(millis(version.getUpdatedAt()), company == null ? -1 : millis(company.getUpdatedAt()));
+        return new Validator("jobPost-" + jobPostId + "-" + tag(version) + "-" + tag(company), lastModified);
+    }
+
+    // 기업 상세 (없는 기업이면 null)
+    public Validator company(long companyId) {
+        return validator("company-" + companyId, companyMapper.selectCompanyVersion(companyId));
+    }
+
+    // 공지사항 상세 (없는 공지면 null)
+    public Validator notice(long noticeId) {
+        return validator("notice-" + noticeId, noticeMapper.selectNoticeVersion(noticeId));
+    }
+
+    // 공지사항 목록
+    public Validator notices() {
+        return validator("notices", noticeMapper.selectNoticeListVersion());
+    }
+
+    // 기업 리뷰 목록
+    public Validator companyReviews(long companyId) {
+        return validator("reviews-" + companyId, reviewMapper.selectCompanyReviewsVersion(companyId));
+    }
+
+    private static Validator validator(String prefix, EntityVersion version) {
+        if (version == null) {
+            return null;
+        }
+        return new Validator(prefix + "-" + tag(version), millis(version.getUpdatedAt()));
+    }
+
+    private static String tag(EntityVersion version) {
+        if (version == null) {
+            return "none";
+        }
+        return millis(version.getUpdatedAt()) + (version.getState() == null ? "" : "." + version.getState());
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        jobPostVersions.bindTo(registry, CACHE_NAME);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.isCompanyWide()) {
+            jobPostVersions.removeIf(version -> Objects.equals(version.getOwnerId(), event.getCompanyId()));
+        } else {
+            jobPostVersions.remove(event.getJobPostId());
+        }
+    }
+}
@@ -1,51 +1,84 @@
 package com.jobjob.albaing.service;
 
-import com.google.cloud.storage.*;
-import com.google.firebase.cloud.StorageClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 업로드 파일 저장 (프로필 이미지, 기업 로고, 공고 이미지)
+ * file.getBytes() 로 파일 전체를 힙에 올리지 않고, 미리 만들어 둔 고정 크기 버퍼로 나눠 읽어 저장소 (ObjectStorage) 로 보낸다.
+ * - 버퍼는 MAX_BUFFERS 개를 돌려 쓰므로 동시 업로드가 많아도 복사용 메모리는 MAX_BUFFERS * BUFFER_SIZE 를 넘지 않는다.
+ *   버퍼가 모두 쓰이는 중이면 최대 BUFFER_WAIT_SECONDS 초 기다린 뒤 거절한다.
+ * - 저장소는 file.storage 설정으로 고른다 (firebase: Firebase Storage, local: 로컬 디스크).
+ */
 @Service
 @Primary
 public class FirebaseFileServiceImpl implements FileService {
 
-    @Override
-    public String uploadFile(MultipartFile file) {
-        try {
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("파일이 비어 있습니다.");
-            }
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_BUFFERS = 16;
+    private static final long BUFFER_WAIT_SECONDS = 30;
 
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String fileName = "uploads/" + UUID.randomUUID() + extension;
+    // WebConfig 의 fileService 빈과 같이 쓰도록 static (힙 밖 direct 버퍼)
+    private static final BlockingQueue<ByteBuffer> BUFFERS = new ArrayBlockingQueue<>(MAX_BUFFERS);
 
-            Storage storage = StorageClient.getInstance().bucket().getStorage();
+    static {
+        for (int i = 0; i < MAX_BUFFERS; i++) {
+            BUFFERS.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        }
+    }
 
-            BlobId blobId = BlobId.of(StorageClient.getInstance().bucket().getName(), fileName);
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                .setContentType(file.getContentType())
-                .setCacheControl("public, max-age=31536000")
-                .setAcl(Arrays.asList(Acl.of(Acl.User.ofAllUsers(), Acl.Role.READER)))
-                .build();
+    @Autowired
+    private ObjectStorage objectStorage;
+
+    @Override
+    public String uploadFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어 있습니다.");
+        }
 
-            Blob blob = storage.create(blobInfo, file.getBytes());
+        String originalFilename = file.getOriginalFilename();
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        String fileName = "uploads/" + UUID.randomUUID() + extension;
 
-            return String.format("https://storage.googleapis.com/%s/%s",
-                StorageClient.getInstance().bucket().getName(), fileName);
+        ByteBuffer buffer = acquireBuffer();
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel source = Channels.newChannel(in)) {
+            objectStorage.store(fileName, file.getContentType(), source, buffer);
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 중 오류 발생: " + e.getMessage(), e);
+        } finally {
+            buffer.clear();
+            BUFFERS.add(buffer);
+        }
+
+        return objectStorage.publicUrl(fileName);
+    }
+
+    private static ByteBuffer acquireBuffer() {
+        try {
+            ByteBuffer buffer = BUFFERS.poll(BUFFER_WAIT_SECONDS, TimeUnit.SECONDS);
+            if (buffer == null) {
+                throw new IllegalStateException("업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파일 업로드가 중단되었습니다.", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.jobjob.albaing.service;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Acl;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Bucket;
+import com.google.firebase.cloud.StorageClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * Firebase Storage (GCS) 저장소 (file.storage=firebase, 기본)
+ * - 버킷 핸들은 처음 쓸 때 한 번만 가져와 재사용한다 (FirebaseConfig 초기화 이후).
+ * - 재개 가능 업로드 (WriteChannel) 로 CHUNK_SIZE 씩 보내므로 업로드 하나가 잡는 메모리는 파일 크기와 상관없다.
+ * - 도중에 실패하면 채널을 닫지 않아 객체가 만들어지지 않는다 (업로드 세션은 GCS 가 만료시킴).
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseObjectStorage implements ObjectStorage {
+
+    // 재개 가능 업로드 한 번에 보내는 크기 (256KiB 의 배수여야 함, 기본값은 16MiB)
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    private volatile Bucket bucket;
+
+    private Bucket bucket() {
+        Bucket current = bucket;
+        if (current == null) {
+            current = StorageClient.getInstance().bucket();
+            bucket = current;
+        }
+        return current;
+    }
+
+    @Override
+    public void store(String name, String contentType, ReadableByteChannel source, ByteBuffer buffer) throws IOException {
+        Bucket current = bucket();
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(current.getName(), name))
+            .setContentType(contentType)
+            .setCacheControl("public, max-age=31536000")
+            .setAcl(List.of(Acl.of(Acl.User.ofAllUsers(), Acl.Role.READER)))
+            .build();
+
+        WriteChannel writer = current.getStorage().writer(blobInfo);
+        writer.setChunkSize(CHUNK_SIZE);
+        ObjectStorage.copy(source, buffer, writer);
+        writer.close();     // 닫아야 업로드가 완료됨
+    }
+
+    @Override
+    public String publicUrl(String name) {
+        return String.format("https://storage.googleapis.com/%s/%s", bucket().getName(), name);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.VerificationMapper;
+import com.jobjob.albaing.model.vo.VerificationData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB (EMAIL_VERIFICATIONS) 인증 상태 저장소 (verification.store=jdbc)
+ * 어느 서버에서 발급한 인증번호든 다른 서버에서 확인할 수 있다.
+ * 만료된 행은 조회에서 제외하고, 1분마다 500건씩 나눠서 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "jdbc")
+public class JdbcVerificationStore implements VerificationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcVerificationStore.class);
+
+    private static final int PURGE_BATCH_SIZE = 500;
+    private static final int MAX_PURGE_BATCHES = 100;
+
+    @Autowired
+    private VerificationMapper verificationMapper;
+
+    @Override
+    public void put(String email, VerificationData data) {
+        verificationMapper.upsertVerification(email, data);
+    }
+
+    @Override
+    public VerificationData get(String email) {
+        return verificationMapper.selectVerification(email);
+    }
+
+    @Override
+    public void remove(String email) {
+        verificationMapper.deleteVerification(email);
+    }
+
+    // 만료된 행 삭제 (한 번에 PURGE_BATCH_SIZE 건씩, 남은 행은 다음 주기에)
+    @Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+    public void purgeExpired() {
+        try {
+            int purged = 0;
+            for (int batch = 0; batch < MAX_PURGE_BATCHES; batch++) {
+                int deleted = verificationMapper.deleteExpired(PURGE_BATCH_SIZE);
+                purged += deleted;
+                if (deleted < PURGE_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (purged > 0) {
+                logger.debug("만료된 이메일 인증 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            logger.warn("만료된 이메일 인증 삭제 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
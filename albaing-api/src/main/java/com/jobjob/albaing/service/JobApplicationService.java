@@ -2,12 +2,14 @@ package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.JobApplication;
 import java.util.List;
+import java.util.Map;
 
 public interface JobApplicationService {
     List<JobApplication> getJobApplications(int resumeId);
     List<JobApplication> getJobApplicationsByJobPostId(int jobPostId);
     void userApplyForJob(JobApplication jobApplication);
     void updateJobApplicationStatus(int jobApplicationId, String approveStatus);
+    int updateJobApplicationStatuses(Map<Integer, String> decisions);
     int countApplicationsByJobPost(int jobPostId);
     List<JobApplication> getApplicationsByCompany(int companyId);
 }
@@ -1,29 +1,33 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.JobApplication;
-import com.jobjob.albaing.dto.JobPost;
-import com.jobjob.albaing.dto.Resume;
+import com.jobjob.albaing.event.ApplicationStatusChangedEvent;
+import com.jobjob.albaing.event.NotificationQueuedEvent;
 import com.jobjob.albaing.mapper.JobApplicationMapper;
-import com.jobjob.albaing.mapper.JobPostMapper;
-import com.jobjob.albaing.mapper.ResumeMapper;
+import com.jobjob.albaing.mapper.NotificationOutboxMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class JobApplicationServiceImpl implements JobApplicationService {
 
-    @Autowired
-    private JobApplicationMapper jobApplicationMapper;
+    private static final int MAX_BULK_DECISIONS = 500;
+    private static final Set<String> APPROVE_STATUSES = Set.of("approving", "approved", "denied");
 
     @Autowired
-    private JobPostMapper jobPostMapper;
+    private JobApplicationMapper jobApplicationMapper;
 
     @Autowired
-    private ResumeMapper resumeMapper;
+    private NotificationOutboxMapper notificationOutboxMapper;
 
     @Autowired
-    private NotificationService notificationService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<JobApplication> getJobApplications(int resumeId) {
@@ -44,45 +48,84 @@ public class JobApplicationServiceImpl implements JobApplicationService {
             throw new RuntimeException("이미 지원한 공고입니다.");
         }
         jobApplicationMapper.userApplyForJob(jobApplication);
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.ofApplied(jobApplication.getResumeId()));
     }
 
+    /**
+     * 지원 상태 변경
+     * 합격/불합격 알림은 같은 트랜잭션에서 발송함에 기록만 하고, 메일은 커밋 후 NotificationOutboxDispatcher 가 보낸다.
+     */
     @Override
+    @Transactional
     public void updateJobApplicationStatus(int jobApplicationId, String approveStatus) {
         JobApplication currentApplication = jobApplicationMapper.getJobApplicationById(jobApplicationId);
 
         jobApplicationMapper.updateJobApplicationStatus(jobApplicationId, approveStatus);
+        if (currentApplication == null) {
+            return;
+        }
+        // 위젯 개수는 커밋 후 반영 (ApplicationStatusCache)
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.ofChanges(List.of(new ApplicationStatusChangedEvent.Change(
+            currentApplication.getResumeId(), currentApplication.getApproveStatus(), approveStatus))));
+
+        if (isResult(approveStatus)) {
+            queueResultNotifications(List.of(jobApplicationId));
+        }
+    }
+
+    /**
+     * 지원 상태 일괄 변경 (지원 내역 ID 별 상태)
+     * 변경 전 상태 조회, 상태 변경, 알림 기록을 각각 한 번의 쿼리로 처리한다.
+     * @return 변경된 지원 내역 수
+     */
+    @Override
+    @Transactional
+    public int updateJobApplicationStatuses(Map<Integer, String> decisions) {
+        if (decisions == null || decisions.isEmpty()) {
+            return 0;
+        }
+        if (decisions.size() > MAX_BULK_DECISIONS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 지원 내역은 " + MAX_BULK_DECISIONS + "건까지입니다.");
+        }
+        for (Map.Entry<Integer, String> decision : decisions.entrySet()) {
+            if (decision.getKey() == null || !APPROVE_STATUSES.contains(decision.getValue())) {
+                throw new IllegalArgumentException("잘못된 지원 상태 변경 요청입니다: " + decision.getKey() + "=" + decision.getValue());
+            }
+        }
 
-        if (currentApplication != null) {
-            try {
-                JobPost jobPost = jobPostMapper.selectJobPostById(currentApplication.getJobPostId());
-                Resume resume = resumeMapper.resumeDetails(currentApplication.getResumeId());
-
-                if (jobPost != null && resume != null) {
-                    String companyName = jobPost.getCompanyName();
-                    if (companyName == null || companyName.trim().isEmpty()) {
-                        companyName = "알바잉 기업";
-                    }
-
-                    if ("approved".equals(approveStatus)) {
-                        notificationService.sendJobApprovalNotification(
-                            Long.valueOf(resume.getUserId()),
-                            jobPost.getJobPostTitle(),
-                            companyName
-                        );
-                    }
-                    else if ("denied".equals(approveStatus)) {
-                        notificationService.sendJobDeniedNotification(
-                            Long.valueOf(resume.getUserId()),
-                            jobPost.getJobPostTitle(),
-                            companyName
-                        );
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("공고 상태 변경 알림 발송 중 오류 발생: " + e.getMessage());
-                e.printStackTrace();
+        List<JobApplication> currentApplications = jobApplicationMapper.getJobApplicationsByIds(decisions.keySet());
+        if (currentApplications.isEmpty()) {
+            return 0;
+        }
+        int updated = jobApplicationMapper.updateJobApplicationStatuses(decisions);
+
+        List<Integer> resultIds = new ArrayList<>();
+        List<ApplicationStatusChangedEvent.Change> changes = new ArrayList<>();
+        for (JobApplication currentApplication : currentApplications) {
+            String approveStatus = decisions.get(currentApplication.getJobApplicationId());
+            changes.add(new ApplicationStatusChangedEvent.Change(
+                currentApplication.getResumeId(), currentApplication.getApproveStatus(), approveStatus));
+            if (isResult(approveStatus)) {
+                resultIds.add(currentApplication.getJobApplicationId());
             }
         }
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.ofChanges(changes));
+        if (!resultIds.isEmpty()) {
+            queueResultNotifications(resultIds);
+        }
+        return updated;
+    }
+
+    private static boolean isResult(String approveStatus) {
+        return "approved".equals(approveStatus) || "denied".equals(approveStatus);
+    }
+
+    // 합격/불합격 알림을 발송함에 기록 (발송은 커밋 후)
+    private void queueResultNotifications(List<Integer> jobApplicationIds) {
+        int queued = notificationOutboxMapper.insertJobResults(jobApplicationIds);
+        if (queued > 0) {
+            eventPublisher.publishEvent(new NotificationQueuedEvent(queued));
+        }
     }
 
     @Override
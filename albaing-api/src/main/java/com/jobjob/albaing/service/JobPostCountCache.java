@@ -0,0 +1,103 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 채용공고 목록 전체 건수 캐시
+ * 검색 조건 (jobCategory, jobType, keyword, onlyActive) 을 정규화한 값을 키로 짧게 보관하고,
+ * 공고가 변경되면 전부 비운다.
+ */
+@Component
+public class JobPostCountCache {
+
+    private static final long TTL_MILLIS = 30 * 1000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // 공고가 변경될 때마다 증가. 계산 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Key(String jobCategory, String jobType, String keyword, boolean onlyActive) {
+
+        // '', 'all' 은 조건 없음, 키워드는 LIKE 와 같게 대소문자 무시
+        static Key of(String jobCategory, String jobType, String keyword, boolean onlyActive) {
+            return new Key(normalizeFilter(jobCategory), normalizeFilter(jobType),
+                keyword == null || keyword.isEmpty() ? null : keyword.toLowerCase(Locale.ROOT), onlyActive);
+        }
+
+        private static String normalizeFilter(String value) {
+            return value == null || value.isEmpty() || "all".equals(value) ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // exact 가 false 면 cap 까지만 센 값
+    private record Entry(int count, boolean exact, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    // 정확한 전체 건수
+    public int getExact(String jobCategory, String jobType, String keyword, boolean onlyActive, IntSupplier loader) {
+        Key key = Key.of(jobCategory, jobType, keyword, onlyActive);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.exact() && !entry.isExpired(now)) {
+            return entry.count();
+        }
+        return load(key, loader, true);
+    }
+
+    // cap 건까지만 센 건수 (정확한 값이 캐시되어 있으면 그 값을 cap 으로 자름)
+    public int getCapped(String jobCategory, String jobType, String keyword, boolean onlyActive,
+                         int cap, IntSupplier cappedLoader) {
+        Key key = Key.of(jobCategory, jobType, keyword, onlyActive);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now) && (entry.exact() || entry.count() < cap)) {
+            return Math.min(entry.count(), cap);
+        }
+        return Math.min(load(key, cappedLoader, false), cap);
+    }
+
+    private int load(Key key, IntSupplier loader, boolean exact) {
+        long startGeneration = generation.get();
+        int count = loader.getAsInt();
+
+        if (entries.size() >= MAX_ENTRIES) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(e -> e.isExpired(now));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        if (generation.get() == startGeneration) {
+            entries.put(key, new Entry(count, exact, System.currentTimeMillis() + TTL_MILLIS));
+        }
+        return count;
+    }
+
+    // 공고 변경 시 전체 무효화 (검색 색인이 먼저 갱신된 뒤에 실행되도록 순서를 뒤로 둔다)
+    @Order(100)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
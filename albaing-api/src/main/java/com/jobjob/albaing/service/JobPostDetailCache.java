@@ -0,0 +1,143 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 채용공고 상세 (기업명, 로고 포함) 공고 ID 별 캐시
+ * 공고나 기업이 변경되면 해당 항목만 지운다.
+ * 크기 제한은 항목 수가 아니라 추정 메모리 기준이고 교체 정책은 W-TinyLFU 이다 (TinyLfuCache).
+ * 적중/실패/퇴출 수는 actuator 의 cache.* 지표 (cache=jobPostDetail) 로 노출한다.
+ */
+@Component
+public class JobPostDetailCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jobPostDetail";
+
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+    private static final long MAX_WEIGHT = 16 * 1024 * 1024L;     // 추정 바이트
+
+    // 공고 한 건의 문자열 외 고정 부분 (객체 헤더, 날짜, 맵 항목 등) 추정치
+    private static final int BASE_WEIGHT = 256;
+
+    private final TinyLfuCache<Long, JobPost> cache =
+        new TinyLfuCache<>(MAX_WEIGHT, TTL_MILLIS, JobPostDetailCache::weigh);
+
+    // 변경이 있을 때마다 증가. 조회 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 공고 한 건 조회 (없으면 loader 로 읽어서 저장)
+     * loader 가 null 을 돌려주면 (없는 공고) 저장하지 않고 null 을 돌려준다.
+     */
+    public JobPost get(long jobPostId, LongFunction<JobPost> loader) {
+        JobPost cached = cache.get(jobPostId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        JobPost jobPost = loader.apply(jobPostId);
+        if (jobPost != null) {
+            cache.put(jobPostId, jobPost, () -> generation.get() == startGeneration);
+        }
+        return jobPost;
+    }
+
+    /**
+     * 여러 공고를 한 번에 조회 (캐시에 없는 ID 만 loader 로 한 번에 읽음)
+     * 결과는 요청한 ID 순서대로이고, 없는 공고는 빠진다.
+     */
+    public List<JobPost> getAll(List<Long> jobPostIds, Function<List<Long>, List<JobPost>> loader) {
+        Map<Long, JobPost> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : jobPostIds) {
+            if (found.containsKey(id) || misses.contains(id)) {
+                continue;
+            }
+            JobPost cached = cache.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long startGeneration = generation.get();
+            for (JobPost jobPost : loader.apply(misses)) {
+                found.put(jobPost.getJobPostId(), jobPost);
+                cache.put(jobPost.getJobPostId(), jobPost, () -> generation.get() == startGeneration);
+            }
+        }
+
+        List<JobPost> result = new ArrayList<>(jobPostIds.size());
+        for (Long id : jobPostIds) {
+            JobPost jobPost = found.get(id);
+            if (jobPost != null) {
+                result.add(jobPost);
+            }
+        }
+        return result;
+    }
+
+    // 문자열 필드 길이로 추정한 메모리 사용량 (정확할 필요는 없고 긴 공고와 짧은 공고를 구분하는 정도)
+    private static int weigh(JobPost jobPost) {
+        int chars = length(jobPost.getJobPostTitle())
+            + length(jobPost.getJobPostOptionalImage())
+            + length(jobPost.getJobPostContactNumber())
+            + length(jobPost.getJobPostRequiredEducations())
+            + length(jobPost.getJobPostJobCategory())
+            + length(jobPost.getJobPostJobType())
+            + length(jobPost.getJobPostWorkingPeriod())
+            + length(jobPost.getJobWorkSchedule())
+            + length(jobPost.getJobPostShiftHours())
+            + length(jobPost.getJobPostSalary())
+            + length(jobPost.getJobPostWorkPlace())
+            + length(jobPost.getJobPostRegionCode())
+            + length(jobPost.getJobPostRegionDong())
+            + length(jobPost.getCompanyName())
+            + length(jobPost.getCompanyLogo());
+        return BASE_WEIGHT + chars * 2;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length() + 24;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, CACHE_NAME);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.isCompanyWide()) {
+            evictCompany(event.getCompanyId());
+        } else {
+            cache.remove(event.getJobPostId());
+        }
+    }
+
+    // 기업명, 로고가 공고 응답에 포함되므로 기업 변경 시 그 기업의 공고도 지운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        generation.incrementAndGet();
+        evictCompany(event.getCompanyId());
+    }
+
+    private void evictCompany(long companyId) {
+        cache.removeIf(jobPost -> jobPost.getCompanyId() == companyId);
+    }
+}
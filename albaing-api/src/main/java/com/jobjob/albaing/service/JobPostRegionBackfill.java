@@ -0,0 +1,57 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 지역 코드가 비어 있는 공고 보정
+ * 서버 기동 시 한 번 근무지 주소를 지역 사전으로 해석해서 job_post_region_code / job_post_region_dong 을 채운다.
+ * 사전에서 찾지 못한 주소는 비워 두었다가 사전이 보강된 뒤 다음 기동 때 다시 시도한다.
+ */
+@Component
+public class JobPostRegionBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobPostRegionBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long afterJobPostId = 0;
+            int updated = 0;
+            List<JobPost> rows;
+            do {
+                rows = jobPostMapper.selectJobPostsWithoutRegion(afterJobPostId, BATCH_SIZE);
+                for (JobPost row : rows) {
+                    afterJobPostId = row.getJobPostId();
+                    RegionDictionary.ParsedRegion region = regionDictionary.parse(row.getJobPostWorkPlace());
+                    if (region != null) {
+                        jobPostMapper.updateJobPostRegion(row.getJobPostId(), region.code(), region.dong());
+                        updated++;
+                    }
+                }
+            } while (rows.size() == BATCH_SIZE);
+
+            if (updated > 0) {
+                logger.info("채용공고 지역 코드 보정 완료: {}건", updated);
+            }
+        } catch (Exception e) {
+            logger.error("채용공고 지역 코드 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,668 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 채용공고 키워드 검색용 메모리 역색인
+ * 한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않아서 글자 1-gram, 2-gram 단위로 색인한다.
+ * 색인은 후보를 좁히는 용도이고 최종 판정은 원문 contains 로 다시 하므로 결과는 LIKE '%keyword%' 와 같다.
+ * 색인에는 공고 ID 와 검색/정렬에 필요한 컬럼만 두고, 실제 응답 행은 마지막 페이지 분량만 DB 에서 조회한다.
+ */
+@Component
+public class JobPostSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobPostSearchIndex.class);
+
+    // 최신 등록순 (job_post_created_at DESC, 같으면 job_post_id DESC)
+    private static final Comparator<IndexedJobPost> RECENCY_ORDER = Comparator
+        .comparing(IndexedJobPost::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(IndexedJobPost::jobPostId, Comparator.reverseOrder());
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private CompanySummaryCache companySummaryCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    private volatile boolean ready = false;
+
+    // 전체 재색인 도중 들어온 변경은 새 색인으로 교체한 뒤 한 번 더 반영한다
+    private volatile boolean rebuilding = false;
+    private final Queue<JobPostChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    // 검색 결과 (현재 페이지의 공고 ID 목록 + 전체 건수)
+    public record Result(List<Long> jobPostIds, int totalCount) {
+    }
+
+    // 색인이 한 번이라도 정상적으로 만들어졌는지 여부 (false 면 호출하는 쪽에서 DB 검색을 사용)
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 채용공고 목록 검색 (JobPostMapper.searchCriteria 와 같은 조건)
+    public Result findJobPosts(String jobCategory, String jobType, String keyword,
+                               boolean onlyActive, int offset, int limit) {
+        String term = normalizeTerm(keyword);
+        Predicate<IndexedJobPost> filter = listFilter(jobCategory, jobType, term, onlyActive);
+        return query(byTerm(term), filter, null, Math.max(offset, 0), limit, Integer.MAX_VALUE);
+    }
+
+    // cap 건까지만 센 건수 (cap 에 도달하면 더 세지 않음)
+    public int countJobPosts(String jobCategory, String jobType, String keyword, boolean onlyActive, int cap) {
+        String term = normalizeTerm(keyword);
+        Predicate<IndexedJobPost> filter = listFilter(jobCategory, jobType, term, onlyActive);
+        return query(byTerm(term), filter, null, 0, 0, cap).totalCount();
+    }
+
+    // 커서 방식 목록 검색: (등록일시, 공고 ID) 가 커서보다 뒤인 공고부터 limit 건 (전체 건수는 세지 않음)
+    public List<Long> findJobPostsAfter(String jobCategory, String jobType, String keyword, boolean onlyActive,
+                                        LocalDateTime cursorCreatedAt, Long cursorJobPostId, int limit) {
+        String term = normalizeTerm(keyword);
+        Predicate<IndexedJobPost> filter = listFilter(jobCategory, jobType, term, onlyActive);
+        IndexedJobPost after = cursorJobPostId == null ? null : IndexedJobPost.probe(cursorCreatedAt, cursorJobPostId);
+        return query(byTerm(term), filter, after, 0, limit, limit).jobPostIds();
+    }
+
+    private Predicate<IndexedJobPost> listFilter(String jobCategory, String jobType, String term, boolean onlyActive) {
+        String category = normalizeFilter(jobCategory);
+        String type = normalizeFilter(jobType);
+        LocalDate today = LocalDate.now();
+
+        return doc ->
+            (category == null || category.equals(doc.jobCategory()))
+                && (type == null || type.equals(doc.jobType()))
+                && (!onlyActive || doc.isActive(today))
+                && (term == null || matchesListTerm(doc, term));
+    }
+
+    // 목록 검색의 키워드 조건 (제목, 근무지, 기업명)
+    private static boolean matchesListTerm(IndexedJobPost doc, String term) {
+        return doc.title().contains(term)
+            || doc.workPlace().contains(term)
+            || doc.companyName().contains(term);
+    }
+
+    // 메인 검색 (JobPostMapper.searchJobPosts 와 같은 조건)
+    public List<Long> searchJobPosts(String regionSelect, String jobCategorySelect, String searchKeyword) {
+        RegionDictionary.ParsedRegion parsedRegion = regionDictionary.parse(regionSelect);
+        // 지역 사전에 없는 검색어만 기존처럼 근무지 부분 일치로 비교
+        String region = parsedRegion == null ? normalizeTerm(regionSelect) : null;
+        String category = normalizeTerm(jobCategorySelect);
+        String term = normalizeTerm(searchKeyword);
+
+        Predicate<IndexedJobPost> filter = doc ->
+            (parsedRegion == null || parsedRegion.covers(doc.regionCode(), doc.regionDong()))
+                && (region == null || doc.workPlace().contains(region))
+                && (category == null || doc.jobCategory().contains(category))
+                && (term == null
+                || doc.title().contains(term)
+                || doc.contactNumber().contains(term)
+                || doc.companyName().contains(term)
+                || doc.workPlace().contains(term)
+                || doc.jobCategory().contains(term));
+
+        // 키워드, 지역 코드, 부분 일치 조건 중 하나로 후보를 먼저 좁힌다
+        Function<Snapshot, Collection<Long>> seed;
+        if (term != null) {
+            seed = byTerm(term);
+        } else if (parsedRegion != null) {
+            List<String> codes = regionDictionary.codesUnder(parsedRegion.code());
+            seed = s -> s.inRegions(codes);
+        } else {
+            seed = byTerm(region != null ? region : category);
+        }
+        return query(seed, filter, null, 0, Integer.MAX_VALUE, Integer.MAX_VALUE).jobPostIds();
+    }
+
+    // 패싯 건수 (값 → 건수, 건수 많은 순)
+    public record Facets(int totalCount, Map<String, Integer> jobCategory,
+                         Map<String, Integer> jobType, Map<String, Integer> region) {
+    }
+
+    /**
+     * 현재 조건의 직군 / 근무 형태 / 지역별 건수
+     * 각 항목의 건수는 그 항목 자신의 선택 조건만 빼고 나머지 조건을 모두 적용해서 센다 (다른 값을 골랐을 때의 결과 수).
+     */
+    public Facets facetCounts(String jobCategory, String jobType, String region, String keyword, boolean onlyActive) {
+        String term = normalizeTerm(keyword);
+        if (onlyActive) {
+            expireActive(LocalDate.now());
+        }
+
+        lock.readLock().lock();
+        try {
+            Snapshot s = snapshot;
+            FacetField[] fields = {s.categories, s.types, s.regions};
+            BitSet[] selected = {
+                s.categories.selected(normalizeFilter(jobCategory)),
+                s.types.selected(normalizeFilter(jobType)),
+                regionSelection(s, region)};
+
+            // 키워드, 공고 상태 조건을 만족하는 공고
+            BitSet base;
+            if (term == null) {
+                base = (BitSet) (onlyActive ? s.active : s.alive).clone();
+            } else {
+                base = new BitSet(s.byOrdinal.size());
+                for (Long id : candidates(s, term)) {
+                    if (matchesListTerm(s.documents.get(id), term)) {
+                        base.set(s.ordinalOf.get(id));
+                    }
+                }
+                if (onlyActive) {
+                    base.and(s.active);
+                }
+            }
+
+            List<Map<String, Integer>> counts = new ArrayList<>();
+            BitSet all = (BitSet) base.clone();
+            for (int i = 0; i < fields.length; i++) {
+                if (selected[i] != null) {
+                    all.and(selected[i]);
+                }
+
+                BitSet mask = (BitSet) base.clone();
+                for (int j = 0; j < fields.length; j++) {
+                    if (j != i && selected[j] != null) {
+                        mask.and(selected[j]);
+                    }
+                }
+                counts.add(fields[i].count(mask));
+            }
+            return new Facets(all.cardinality(), counts.get(0), counts.get(1), counts.get(2));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 날짜가 바뀌었으면 마감일이 지난 공고를 활성 공고 집합에서 뺌
+    private void expireActive(LocalDate today) {
+        boolean stale;
+        lock.readLock().lock();
+        try {
+            stale = snapshot.activeAsOf.isBefore(today);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (stale) {
+            lock.writeLock().lock();
+            try {
+                snapshot.expireActive(today);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 지역 패싯 선택 조건 (시/군/구, 동까지 고를 수 있어서 코드 접두어로 직접 비교)
+    private BitSet regionSelection(Snapshot s, String region) {
+        if (normalizeFilter(region) == null) {
+            return null;
+        }
+        BitSet docs = new BitSet();
+        RegionDictionary.ParsedRegion parsed = regionDictionary.parse(region);
+        if (parsed == null) {
+            return docs;
+        }
+        for (Long id : s.inRegions(regionDictionary.codesUnder(parsed.code()))) {
+            IndexedJobPost doc = s.documents.get(id);
+            if (parsed.covers(doc.regionCode(), doc.regionDong())) {
+                docs.set(s.ordinalOf.get(id));
+            }
+        }
+        return docs;
+    }
+
+    private Function<Snapshot, Collection<Long>> byTerm(String term) {
+        return term == null ? null : s -> candidates(s, term);
+    }
+
+    // seed 가 있으면 그 후보만 정렬해서, 없으면 전체를 최신순으로 훑는다
+    // after 가 있으면 정렬 순서상 그 뒤부터, 일치하는 공고가 countLimit 건이 되면 즉시 중단
+    private Result query(Function<Snapshot, Collection<Long>> seed, Predicate<IndexedJobPost> filter,
+                         IndexedJobPost after, int offset, int limit, int countLimit) {
+        lock.readLock().lock();
+        try {
+            Iterable<IndexedJobPost> source;
+            if (seed == null) {
+                source = after == null ? snapshot.recency : snapshot.recency.tailSet(after, false);
+            } else {
+                List<IndexedJobPost> docs = new ArrayList<>();
+                for (Long id : seed.apply(snapshot)) {
+                    IndexedJobPost doc = snapshot.documents.get(id);
+                    if (after == null || RECENCY_ORDER.compare(doc, after) > 0) {
+                        docs.add(doc);
+                    }
+                }
+                docs.sort(RECENCY_ORDER);
+                source = docs;
+            }
+
+            int total = 0;
+            List<Long> ids = new ArrayList<>();
+            for (IndexedJobPost doc : source) {
+                if (total >= countLimit) {
+                    break;
+                }
+                if (!filter.test(doc)) {
+                    continue;
+                }
+                if (total >= offset && ids.size() < limit) {
+                    ids.add(doc.jobPostId());
+                }
+                total++;
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 2-gram 을 포함하는 공고 (한 글자 검색어는 1-gram)
+    private Set<Long> candidates(Snapshot s, String term) {
+        if (term.length() == 1) {
+            return s.postings.getOrDefault(term, Collections.emptySet());
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + 1 < term.length(); i++) {
+            Set<Long> posting = s.postings.get(term.substring(i, i + 2));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    // 서버 기동 후 전체 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // DB 를 직접 수정한 경우, 기업명 변경 등을 맞추기 위해 주기적으로 전체 재색인
+    @Scheduled(initialDelay = 10 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        rebuilding = true;
+        try {
+            List<JobPost> rows = jobPostMapper.selectJobPostsForIndex();
+            Snapshot fresh = new Snapshot();
+            for (JobPost row : rows) {
+                fresh.add(row);
+            }
+
+            lock.writeLock().lock();
+            try {
+                snapshot = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            logger.info("채용공고 검색 색인 구성 완료: {}건", rows.size());
+        } catch (Exception e) {
+            logger.error("채용공고 검색 색인 구성 실패 - 기존 색인(또는 DB 검색)을 계속 사용합니다.", e);
+        } finally {
+            rebuilding = false;
+            JobPostChangedEvent pending;
+            while ((pending = changedDuringRebuild.poll()) != null) {
+                apply(pending);
+            }
+        }
+    }
+
+    // 공고 등록/수정/상태 변경 시 해당 공고만 다시 색인 (건수 캐시 무효화보다 먼저 실행)
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    // 기업명이 키워드 검색 대상이므로 기업 변경 시 그 기업의 공고를 다시 색인 (기업 요약 캐시 무효화 다음에 실행)
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        JobPostChangedEvent companyWide = JobPostChangedEvent.ofCompany(event.getCompanyId());
+        if (rebuilding) {
+            changedDuringRebuild.add(companyWide);
+        }
+        apply(companyWide);
+    }
+
+    private void apply(JobPostChangedEvent event) {
+        try {
+            if (event.isCompanyWide()) {
+                List<JobPost> rows = companySummaryCache.fill(jobPostMapper.getJobPostsByCompanyId(event.getCompanyId()));
+                Set<Long> alive = new HashSet<>();
+                lock.writeLock().lock();
+                try {
+                    for (JobPost row : rows) {
+                        snapshot.add(row);
+                        alive.add(row.getJobPostId());
+                    }
+                    List<Long> removed = new ArrayList<>();
+                    for (IndexedJobPost doc : snapshot.documents.values()) {
+                        if (doc.companyId() == event.getCompanyId() && !alive.contains(doc.jobPostId())) {
+                            removed.add(doc.jobPostId());
+                        }
+                    }
+                    removed.forEach(snapshot::remove);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } else {
+                JobPost row = companySummaryCache.fill(jobPostMapper.selectJobPostById(event.getJobPostId()));
+                lock.writeLock().lock();
+                try {
+                    if (row == null) {
+                        snapshot.remove(event.getJobPostId());
+                    } else {
+                        snapshot.add(row);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("채용공고 색인 갱신 실패 ({}): {}", event, e.getMessage());
+        }
+    }
+
+    // '', 'all' 은 조건 없음
+    private static String normalizeFilter(String value) {
+        if (value == null || value.isEmpty() || "all".equals(value)) {
+            return null;
+        }
+        return normalize(value);
+    }
+
+    // LIKE 와 같게 공백은 그대로 두고 대소문자만 무시
+    private static String normalizeTerm(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return normalize(value);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인 본체 (쓰기 락 안에서만 수정)
+    private class Snapshot {
+        final Map<Long, IndexedJobPost> documents = new HashMap<>();
+        final Map<String, Set<Long>> postings = new HashMap<>();
+        final Map<String, Set<Long>> byRegionCode = new HashMap<>();
+        final TreeSet<IndexedJobPost> recency = new TreeSet<>(RECENCY_ORDER);
+
+        // 패싯용: 공고마다 순번을 붙이고 값별로 순번 BitSet 을 둔다 (삭제된 순번은 재색인 때까지 비워 둠)
+        final List<IndexedJobPost> byOrdinal = new ArrayList<>();
+        final Map<Long, Integer> ordinalOf = new HashMap<>();
+        final BitSet alive = new BitSet();
+
+        // 활성 공고 (activeAsOf 기준 공개 상태이고 마감일이 지나지 않은 공고) 와 마감일별 순번
+        // 공고 상태 변경은 add/remove 로, 날짜가 지나 마감된 공고는 expireActive 로 반영한다
+        final BitSet active = new BitSet();
+        final TreeMap<LocalDate, BitSet> activeByDueDate = new TreeMap<>();
+        LocalDate activeAsOf = LocalDate.now();
+        final FacetField categories = new FacetField();
+        final FacetField types = new FacetField();
+        final FacetField regions = new FacetField();
+
+        void add(JobPost row) {
+            // 지역 코드 보정 전 공고는 근무지를 직접 해석
+            if (row.getJobPostRegionCode() == null) {
+                RegionDictionary.ParsedRegion parsed = regionDictionary.parse(row.getJobPostWorkPlace());
+                if (parsed != null) {
+                    row.setJobPostRegionCode(parsed.code());
+                    row.setJobPostRegionDong(parsed.dong());
+                }
+            }
+
+            IndexedJobPost doc = IndexedJobPost.from(row);
+            remove(doc.jobPostId());
+            documents.put(doc.jobPostId(), doc);
+            recency.add(doc);
+            for (String gram : doc.grams()) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(doc.jobPostId());
+            }
+            if (doc.regionCode() != null) {
+                byRegionCode.computeIfAbsent(doc.regionCode(), k -> new HashSet<>()).add(doc.jobPostId());
+            }
+
+            int ordinal = byOrdinal.size();
+            byOrdinal.add(doc);
+            ordinalOf.put(doc.jobPostId(), ordinal);
+            alive.set(ordinal);
+            if (doc.isActive(activeAsOf)) {
+                active.set(ordinal);
+                activeByDueDate.computeIfAbsent(doc.dueDate(), k -> new BitSet()).set(ordinal);
+            }
+            categories.add(ordinal, row.getJobPostJobCategory());
+            types.add(ordinal, row.getJobPostJobType());
+            if (doc.regionCode() != null) {
+                String sido = doc.regionCode().substring(0, 2);
+                regions.add(ordinal, sido, regionDictionary.sidoName(sido));
+            }
+        }
+
+        void remove(long jobPostId) {
+            IndexedJobPost old = documents.remove(jobPostId);
+            if (old == null) {
+                return;
+            }
+            recency.remove(old);
+            if (old.regionCode() != null) {
+                Set<Long> inRegion = byRegionCode.get(old.regionCode());
+                if (inRegion != null) {
+                    inRegion.remove(jobPostId);
+                }
+            }
+            for (String gram : old.grams()) {
+                Set<Long> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(jobPostId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+
+            int ordinal = ordinalOf.remove(jobPostId);
+            byOrdinal.set(ordinal, null);
+            alive.clear(ordinal);
+            active.clear(ordinal);
+            if (old.dueDate() != null) {
+                BitSet due = activeByDueDate.get(old.dueDate());
+                if (due != null) {
+                    due.clear(ordinal);
+                }
+            }
+            categories.remove(ordinal);
+            types.remove(ordinal);
+            regions.remove(ordinal);
+        }
+
+        // today 이전에 마감된 공고를 활성 공고에서 뺌
+        void expireActive(LocalDate today) {
+            if (!activeAsOf.isBefore(today)) {
+                return;
+            }
+            SortedMap<LocalDate, BitSet> expired = activeByDueDate.headMap(today);
+            for (BitSet due : expired.values()) {
+                active.andNot(due);
+            }
+            expired.clear();
+            activeAsOf = today;
+        }
+
+        // 지역 코드 목록 중 하나에 속한 공고
+        Set<Long> inRegions(List<String> codes) {
+            Set<Long> ids = new HashSet<>();
+            for (String code : codes) {
+                ids.addAll(byRegionCode.getOrDefault(code, Collections.emptySet()));
+            }
+            return ids;
+        }
+    }
+
+    // 패싯 항목 하나 (값별 공고 순번 BitSet + 순번별 값 번호)
+    private static class FacetField {
+        private static final BitSet EMPTY = new BitSet();
+
+        final Map<String, Integer> valueIds = new HashMap<>();
+        final List<String> labels = new ArrayList<>();
+        final List<BitSet> docs = new ArrayList<>();
+        int[] valueOf = new int[0];
+
+        // 대소문자만 다른 값은 처음 들어온 표기로 묶는다
+        void add(int ordinal, String label) {
+            add(ordinal, label == null ? null : normalize(label), label);
+        }
+
+        void add(int ordinal, String key, String label) {
+            if (valueOf.length <= ordinal) {
+                int from = valueOf.length;
+                valueOf = Arrays.copyOf(valueOf, Math.max(ordinal + 1, from * 2));
+                Arrays.fill(valueOf, from, valueOf.length, -1);
+            }
+            if (key == null || key.isBlank() || label == null) {
+                return;
+            }
+
+            Integer id = valueIds.get(key);
+            if (id == null) {
+                id = labels.size();
+                valueIds.put(key, id);
+                labels.add(label);
+                docs.add(new BitSet());
+            }
+            docs.get(id).set(ordinal);
+            valueOf[ordinal] = id;
+        }
+
+        void remove(int ordinal) {
+            if (ordinal < valueOf.length && valueOf[ordinal] >= 0) {
+                docs.get(valueOf[ordinal]).clear(ordinal);
+                valueOf[ordinal] = -1;
+            }
+        }
+
+        // 선택한 값의 공고 (조건이 없으면 null, 없는 값이면 빈 집합)
+        BitSet selected(String key) {
+            if (key == null) {
+                return null;
+            }
+            Integer id = valueIds.get(key);
+            return id == null ? EMPTY : docs.get(id);
+        }
+
+        Map<String, Integer> count(BitSet mask) {
+            int[] counts = new int[labels.size()];
+            for (int ord = mask.nextSetBit(0); ord >= 0; ord = mask.nextSetBit(ord + 1)) {
+                if (ord < valueOf.length && valueOf[ord] >= 0) {
+                    counts[valueOf[ord]]++;
+                }
+            }
+
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < counts.length; id++) {
+                if (counts[id] > 0) {
+                    ids.add(id);
+                }
+            }
+            ids.sort((a, b) -> Integer.compare(counts[b], counts[a]));
+
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (int id : ids) {
+                result.put(labels.get(id), counts[id]);
+            }
+            return result;
+        }
+    }
+
+    // 색인에 보관하는 공고 정보 (문자열은 소문자로 정규화해서 보관)
+    private record IndexedJobPost(long jobPostId, long companyId, String title, String workPlace,
+                                  String contactNumber, String jobCategory, String jobType, String companyName,
+                                  String regionCode, String regionDong,
+                                  boolean status, LocalDate dueDate, LocalDateTime createdAt) {
+
+        static IndexedJobPost from(JobPost post) {
+            return new IndexedJobPost(
+                post.getJobPostId(),
+                post.getCompanyId(),
+                normalize(post.getJobPostTitle()),
+                normalize(post.getJobPostWorkPlace()),
+                normalize(post.getJobPostContactNumber()),
+                normalize(post.getJobPostJobCategory()),
+                normalize(post.getJobPostJobType()),
+                normalize(post.getCompanyName()),
+                post.getJobPostRegionCode(),
+                post.getJobPostRegionDong(),
+                Boolean.TRUE.equals(post.getJobPostStatus()),
+                post.getJobPostDueDate(),
+                post.getJobPostCreatedAt());
+        }
+
+        // 커서 위치 비교용 (정렬에 쓰는 등록일시, 공고 ID 만 채움)
+        static IndexedJobPost probe(LocalDateTime createdAt, long jobPostId) {
+            return new IndexedJobPost(jobPostId, 0, "", "", "", "", "", "", null, null, false, null, createdAt);
+        }
+
+        // 공개 상태이고 마감일이 지나지 않은 공고
+        boolean isActive(LocalDate today) {
+            return status && dueDate != null && !dueDate.isBefore(today);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String field : List.of(title, workPlace, contactNumber, jobCategory, companyName)) {
+                for (int i = 0; i < field.length(); i++) {
+                    grams.add(field.substring(i, i + 1));
+                    if (i + 1 < field.length()) {
+                        grams.add(field.substring(i, i + 2));
+                    }
+                }
+            }
+            return grams;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.JobPostSuggestion;
 import com.jobjob.albaing.dto.ViewJobPost;
+import com.jobjob.albaing.model.vo.JobPostCursor;
 
 import java.util.List;
+import java.util.Map;
 
 public interface JobPostService {
     JobPost createJobPost(JobPost jobPost);
     JobPost getJobPost(long jobPostId);
+
+    // 여러 공고 한 번에 조회 (요청한 ID 순서, 없는 공고는 제외)
+    List<JobPost> getJobPostsByIds(List<Long> jobPostIds);
     List<JobPost> getJobPostList(String jobCategory, String jobType, String keyword, int page, int size, boolean onlyActive);
+    List<JobPost> getJobPostListAfter(String jobCategory, String jobType, String keyword, JobPostCursor cursor, int size, boolean onlyActive);
     JobPost updateJobPost(long jobPostId, JobPost jobPost);
     void updateJobPostStatus(long jobPostId, boolean status);
     int getTotalCount(String jobCategory, String jobType, String keyword, boolean onlyActive);
+
+    int getCappedCount(String jobCategory, String jobType, String keyword, boolean onlyActive, int cap);
+
+    // 검색어 자동완성 (공고 제목, 기업명)
+    List<JobPostSuggestion> suggest(String query, int size);
+
+    // 직군 / 근무 형태 / 지역별 건수 (검색 색인이 준비되지 않았으면 null)
+    Map<String, Object> getJobPostFacets(String jobCategory, String jobType, String region,
+                                         String keyword, boolean onlyActive);
     List<JobPost> getJobPostsByCompanyId(long companyId);
     List<JobPost> mainPageJobPostsAlignByDueDateASC();
     List<JobPost> mainPageJobPostsAlignByDueDateDESC();
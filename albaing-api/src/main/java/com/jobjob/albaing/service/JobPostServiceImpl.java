@@ -1,14 +1,21 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.JobPostSuggestion;
 import com.jobjob.albaing.dto.ViewJobPost;
+import com.jobjob.albaing.event.JobPostChangedEvent;
 import com.jobjob.albaing.mapper.JobPostMapper;
+import com.jobjob.albaing.model.vo.JobPostCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToLongFunction;
 
 @Service
 public class JobPostServiceImpl implements JobPostService {
@@ -16,21 +23,73 @@ public class JobPostServiceImpl implements JobPostService {
     @Autowired
     private JobPostMapper jobPostMapper;
 
+    @Autowired
+    private JobPostSearchIndex jobPostSearchIndex;
+
+    @Autowired
+    private JobPostCountCache jobPostCountCache;
+
+    @Autowired
+    private MainPageFeed mainPageFeed;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private JobPostSuggestIndex jobPostSuggestIndex;
+
+    @Autowired
+    private JobPostDetailCache jobPostDetailCache;
+
+    @Autowired
+    private CompanySummaryCache companySummaryCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private StatsRollup statsRollup;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
     @Override
     public JobPost createJobPost(JobPost jobPost) {
         jobPost.setJobPostStatus(true); // 기본값으로 활성화 상태 설정
+        fillRegion(jobPost);
         jobPostMapper.insertJobPost(jobPost);
+        recordJobPostChanged(null, jobPost);
+        savedSearchService.jobPostCreated(jobPost);
+        eventPublisher.publishEvent(JobPostChangedEvent.ofJobPost(jobPost.getJobPostId()));
         return jobPost;
     }
 
     @Override
     public JobPost getJobPost(long jobPostId) {
-        return jobPostMapper.selectJobPostById(jobPostId);
+        return jobPostDetailCache.get(jobPostId, id -> companySummaryCache.fill(jobPostMapper.selectJobPostById(id)));
+    }
+
+    @Override
+    public List<JobPost> getJobPostsByIds(List<Long> jobPostIds) {
+        if (jobPostIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jobPostDetailCache.getAll(jobPostIds, ids -> companySummaryCache.fill(jobPostMapper.selectJobPostsByIds(ids)));
     }
 
     @Override
     public List<JobPost> getJobPostList(String jobCategory, String jobType,
                                         String keyword, int page, int size, boolean onlyActive) {
+        // 색인에서 현재 페이지의 공고 ID 만 골라 DB 에서는 해당 행만 조회
+        if (jobPostSearchIndex.isReady()) {
+            JobPostSearchIndex.Result result = jobPostSearchIndex.findJobPosts(
+                jobCategory, jobType, keyword, onlyActive, (page - 1) * size, size);
+            return hydrateJobPosts(result.jobPostIds());
+        }
+
         Map<String, Object> params = new HashMap<>();
         params.put("jobCategory", jobCategory);
         params.put("jobType", jobType);
@@ -39,59 +98,202 @@ public class JobPostServiceImpl implements JobPostService {
         params.put("limit", size);
         params.put("onlyActive", onlyActive);
 
-        return jobPostMapper.selectJobPostList(params);
+        return companySummaryCache.fill(jobPostMapper.selectJobPostList(params));
+    }
+
+    // 커서 방식 목록 조회 (cursor 가 null 이면 첫 페이지)
+    @Override
+    public List<JobPost> getJobPostListAfter(String jobCategory, String jobType, String keyword,
+                                             JobPostCursor cursor, int size, boolean onlyActive) {
+        LocalDateTime cursorCreatedAt = cursor == null ? null : cursor.getCreatedAt();
+        Long cursorJobPostId = cursor == null ? null : cursor.getJobPostId();
+
+        if (jobPostSearchIndex.isReady()) {
+            return hydrateJobPosts(jobPostSearchIndex.findJobPostsAfter(
+                jobCategory, jobType, keyword, onlyActive, cursorCreatedAt, cursorJobPostId, size));
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobCategory", jobCategory);
+        params.put("jobType", jobType);
+        params.put("keyword", keyword);
+        params.put("cursorCreatedAt", cursorCreatedAt);
+        params.put("cursorJobPostId", cursorJobPostId);
+        params.put("offset", 0);
+        params.put("limit", size);
+        params.put("onlyActive", onlyActive);
+
+        return companySummaryCache.fill(jobPostMapper.selectJobPostList(params));
     }
 
     @Override
     public JobPost updateJobPost(long jobPostId, JobPost updatedJobPost) {
         updatedJobPost.setJobPostId(jobPostId);
+        fillRegion(updatedJobPost);
+        JobPost before = jobPostMapper.selectJobPostById(jobPostId);
         jobPostMapper.updateJobPost(updatedJobPost);
-        return jobPostMapper.selectJobPostById(jobPostId);
+        eventPublisher.publishEvent(JobPostChangedEvent.ofJobPost(jobPostId));
+        // 이벤트로 캐시가 비워진 뒤 다시 읽어서, 수정 직후의 상세 조회는 캐시에서 응답
+        JobPost after = getJobPost(jobPostId);
+        recordJobPostChanged(before, after);
+        return after;
     }
 
     @Override
     public void updateJobPostStatus(long jobPostId, boolean status) {
+        JobPost before = jobPostMapper.selectJobPostById(jobPostId);
         jobPostMapper.updateJobPostStatus(jobPostId, status);
+        recordJobPostChanged(before, jobPostMapper.selectJobPostById(jobPostId));
+        eventPublisher.publishEvent(JobPostChangedEvent.ofJobPost(jobPostId));
     }
 
     @Override
     public int getTotalCount(String jobCategory, String jobType, String keyword, boolean onlyActive) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("jobCategory", jobCategory);
-        params.put("jobType", jobType);
-        params.put("keyword", keyword);
-        params.put("onlyActive", onlyActive);
+        return jobPostCountCache.getExact(jobCategory, jobType, keyword, onlyActive, () -> {
+            if (jobPostSearchIndex.isReady()) {
+                return jobPostSearchIndex.findJobPosts(jobCategory, jobType, keyword, onlyActive, 0, 0).totalCount();
+            }
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("jobCategory", jobCategory);
+            params.put("jobType", jobType);
+            params.put("keyword", keyword);
+            params.put("onlyActive", onlyActive);
+
+            return jobPostMapper.countJobPost(params);
+        });
+    }
+
+    // cap 건까지만 센 건수 (결과가 cap 이면 실제로는 그 이상일 수 있음)
+    @Override
+    public int getCappedCount(String jobCategory, String jobType, String keyword, boolean onlyActive, int cap) {
+        return jobPostCountCache.getCapped(jobCategory, jobType, keyword, onlyActive, cap, () -> {
+            if (jobPostSearchIndex.isReady()) {
+                return jobPostSearchIndex.countJobPosts(jobCategory, jobType, keyword, onlyActive, cap);
+            }
 
-        return jobPostMapper.countJobPost(params);
+            Map<String, Object> params = new HashMap<>();
+            params.put("jobCategory", jobCategory);
+            params.put("jobType", jobType);
+            params.put("keyword", keyword);
+            params.put("onlyActive", onlyActive);
+            params.put("cap", cap);
+
+            return jobPostMapper.countJobPostCapped(params);
+        });
+    }
+
+    // 색인 구성 전에는 빈 목록 (키 입력마다 LIKE 검색을 하지 않도록 DB 로 넘기지 않음)
+    @Override
+    public List<JobPostSuggestion> suggest(String query, int size) {
+        if (!jobPostSuggestIndex.isReady()) {
+            return new ArrayList<>();
+        }
+        return jobPostSuggestIndex.suggest(query, size);
+    }
+
+    @Override
+    public Map<String, Object> getJobPostFacets(String jobCategory, String jobType, String region,
+                                                String keyword, boolean onlyActive) {
+        if (!jobPostSearchIndex.isReady()) {
+            return null;
+        }
+
+        JobPostSearchIndex.Facets facets = jobPostSearchIndex.facetCounts(jobCategory, jobType, region, keyword, onlyActive);
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalElements", facets.totalCount());
+        result.put("jobCategory", facets.jobCategory());
+        result.put("jobType", facets.jobType());
+        result.put("region", facets.region());
+        return result;
     }
 
     @Override
     public List<JobPost> getJobPostsByCompanyId(long companyId) {
-        return jobPostMapper.getJobPostsByCompanyId(companyId);
+        return companySummaryCache.fill(jobPostMapper.getJobPostsByCompanyId(companyId));
     }
 
     @Override
     public List<JobPost> mainPageJobPostsAlignByDueDateASC() {
-        return jobPostMapper.mainPageJobPostsAlignByDueDateASC();
+        if (mainPageFeed.isReady()) {
+            return mainPageFeed.imminent(3);
+        }
+        return companySummaryCache.fill(jobPostMapper.mainPageJobPostsAlignByDueDateASC());
     }
 
     @Override
     public List<JobPost> mainPageJobPostsAlignByDueDateDESC() {
-        return jobPostMapper.mainPageJobPostsAlignByDueDateDESC();
+        if (mainPageFeed.isReady()) {
+            return mainPageFeed.newest(6);
+        }
+        return companySummaryCache.fill(jobPostMapper.mainPageJobPostsAlignByDueDateDESC());
     }
 
     @Override
     public List<JobPost> mainPageJobPostsAlignByUserResume(String resumeLocation, String resumeJobDuration) {
-        return jobPostMapper.mainPageJobPostsAlignByUserResume(resumeLocation, resumeJobDuration);
+        if (mainPageFeed.isReady()) {
+            return mainPageFeed.personalized(resumeLocation, resumeJobDuration, 6);
+        }
+        return companySummaryCache.fill(jobPostMapper.mainPageJobPostsAlignByUserResume(resumeLocation, resumeJobDuration));
     }
 
     @Override
     public List<JobPost> mainPageJobPostsRandom() {
-        return jobPostMapper.mainPageJobPostsRandom();
+        if (mainPageFeed.isReady()) {
+            return mainPageFeed.random(6);
+        }
+        return companySummaryCache.fill(jobPostMapper.mainPageJobPostsRandom());
     }
 
     @Override
     public List<ViewJobPost> searchJobPosts(String regionSelect, String jobCategorySelect, String searchKeyword) {
-        return jobPostMapper.searchJobPosts(regionSelect, jobCategorySelect, searchKeyword);
+        if (jobPostSearchIndex.isReady()) {
+            List<Long> ids = jobPostSearchIndex.searchJobPosts(regionSelect, jobCategorySelect, searchKeyword);
+            if (ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return orderByIds(ids, jobPostMapper.selectViewJobPostsByIds(ids), ViewJobPost::getJobPostId);
+        }
+        RegionDictionary.ParsedRegion region = regionDictionary.parse(regionSelect);
+        return jobPostMapper.searchJobPosts(regionSelect,
+            region == null ? null : region.code(), region == null ? null : region.dong(),
+            jobCategorySelect, searchKeyword);
+    }
+
+    // 공고 변경 전후로 대시보드 카운터와 통계 롤업 반영
+    private void recordJobPostChanged(JobPost before, JobPost after) {
+        dashboardCounters.jobPostChanged(before, after);
+        statsRollup.jobPostChanged(before, after);
+    }
+
+    // 근무지 주소를 지역 코드로 변환해서 함께 저장
+    private void fillRegion(JobPost jobPost) {
+        RegionDictionary.ParsedRegion region = regionDictionary.parse(jobPost.getJobPostWorkPlace());
+        jobPost.setJobPostRegionCode(region == null ? null : region.code());
+        jobPost.setJobPostRegionDong(region == null ? null : region.dong());
+    }
+
+    // 공고 ID 목록을 IN 쿼리 한 번으로 조회
+    private List<JobPost> hydrateJobPosts(List<Long> jobPostIds) {
+        if (jobPostIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return orderByIds(jobPostIds, companySummaryCache.fill(jobPostMapper.selectJobPostsByIds(jobPostIds)), JobPost::getJobPostId);
+    }
+
+    // IN 쿼리는 순서를 보장하지 않으므로 요청한 ID 순서대로 다시 정렬
+    private <T> List<T> orderByIds(List<Long> jobPostIds, List<T> rows, ToLongFunction<T> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idOf.applyAsLong(row), row);
+        }
+        List<T> ordered = new ArrayList<>(jobPostIds.size());
+        for (Long id : jobPostIds) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
     }
-}
\ No newline at end of file
+}
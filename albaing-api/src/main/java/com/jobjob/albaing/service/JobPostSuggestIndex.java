@@ -0,0 +1,465 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.JobPostSuggestion;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공고 제목 / 기업명 자동완성 색인 (접두어 트리)
+ * 트리의 각 노드에 그 아래 완성 후보 중 인기도 상위 TOP_K 개를 미리 정렬해 두어서, 조회는 검색어 길이만큼만 내려가면 된다.
+ * 단어 중간부터 입력해도 찾을 수 있게 띄어쓰기 뒤의 각 단어도 시작점으로 넣고, 초성만 입력한 경우를 위해 초성 트리를 따로 둔다.
+ * 인기도는 모집 중인 공고 수 + 지원자 수이고, 지원자 수는 주기적인 전체 재구성 때만 다시 센다.
+ */
+@Component
+public class JobPostSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobPostSuggestIndex.class);
+
+    private static final int TOP_K = 10;
+    private static final int MAX_KEY_LENGTH = 50;
+
+    private static final String TYPE_JOB_TITLE = "jobTitle";
+    private static final String TYPE_COMPANY = "company";
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 인기도 높은 순, 같으면 가나다순
+    private static final Comparator<Entry> WEIGHT_ORDER = Comparator
+        .comparingLong((Entry e) -> e.weight).reversed()
+        .thenComparing(e -> e.text);
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready = false;
+
+    // 전체 재구성 도중 들어온 변경은 교체 후 한 번 더 반영
+    private volatile boolean rebuilding = false;
+    private final Queue<Object> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 입력 중인 검색어의 완성 후보 (최대 TOP_K 개)
+    public List<JobPostSuggestion> suggest(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        boolean chosungQuery = containsChosung(key);
+        if (chosungQuery) {
+            key = toChosung(key);
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = chosungQuery ? state.chosungRoot : state.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            List<JobPostSuggestion> result = new ArrayList<>();
+            if (node == null) {
+                return result;
+            }
+            for (Entry entry : node.top) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(new JobPostSuggestion(entry.text, entry.type, entry.weight));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 지원자 수, 마감 처리 반영
+    @Scheduled(initialDelay = 10 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        rebuilding = true;
+        try {
+            State fresh = new State();
+            fresh.deferTop = true;
+            for (Company company : companyMapper.selectApprovedCompanyNames()) {
+                fresh.putCompany(company.getCompanyId(), company.getCompanyName());
+            }
+            List<Map<String, Object>> rows = jobPostMapper.selectSuggestSources(null, null);
+            for (Map<String, Object> row : rows) {
+                fresh.putPost(row);
+            }
+            fresh.computeAllTops();
+
+            lock.writeLock().lock();
+            try {
+                state = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            logger.info("자동완성 색인 구성 완료: 공고 {}건", rows.size());
+        } catch (Exception e) {
+            logger.error("자동완성 색인 구성 실패 - 기존 색인을 계속 사용합니다.", e);
+        } finally {
+            rebuilding = false;
+            Object pending;
+            while ((pending = changedDuringRebuild.poll()) != null) {
+                apply(pending);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(Object event) {
+        try {
+            if (event instanceof JobPostChangedEvent jobPostEvent && !jobPostEvent.isCompanyWide()) {
+                List<Map<String, Object>> rows = jobPostMapper.selectSuggestSources(jobPostEvent.getJobPostId(), null);
+                lock.writeLock().lock();
+                try {
+                    state.removePost(jobPostEvent.getJobPostId());
+                    rows.forEach(state::putPost);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                return;
+            }
+
+            long companyId = event instanceof JobPostChangedEvent jobPostEvent
+                ? jobPostEvent.getCompanyId()
+                : ((CompanyChangedEvent) event).getCompanyId();
+            Company company = companyMapper.companyDetail(companyId);
+            List<Map<String, Object>> rows = jobPostMapper.selectSuggestSources(null, companyId);
+            lock.writeLock().lock();
+            try {
+                state.removeCompany(companyId);
+                if (company != null && company.getCompanyApprovalStatus() == Company.ApprovalStatus.approved) {
+                    state.putCompany(companyId, company.getCompanyName());
+                }
+                rows.forEach(state::putPost);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            logger.warn("자동완성 색인 갱신 실패 ({}): {}", event, e.getMessage());
+        }
+    }
+
+    // 소문자, 앞뒤 공백 제거, 연속 공백은 하나로
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsChosung(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsHangul(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 완성된 한글은 초성으로 바꾸고 공백은 뺀다 (스타벅스 강남 -> ㅅㅌㅂㅅㄱㄴ)
+    private static String toChosung(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                sb.append(CHOSUNG[(c - '가') / 588]);
+            } else if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 문구 전체와 띄어쓰기 뒤 각 단어부터 시작하는 키
+    private static List<String> keysOf(String key) {
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            if (i + 1 < key.length()) {
+                keys.add(key.substring(i + 1));
+            }
+        }
+        keys.replaceAll(k -> k.length() > MAX_KEY_LENGTH ? k.substring(0, MAX_KEY_LENGTH) : k);
+        return keys;
+    }
+
+    // 자동완성 항목 (인기도가 바뀌면 경로상의 상위 목록을 다시 정렬)
+    private static final class Entry {
+        final String type;
+        final String text;
+        final String key;
+        long weight;
+        int postCount;
+
+        Entry(String type, String text, String key) {
+            this.type = type;
+            this.text = text;
+            this.key = key;
+        }
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        final List<Entry> terminals = new ArrayList<>(1);
+        List<Entry> top = List.of();
+    }
+
+    // 공고 하나가 제목 / 기업 인기도에 더한 값
+    private record PostContribution(String titleKey, long companyId, long weight) {
+    }
+
+    // 색인 본체 (쓰기 락 안에서만 수정)
+    private static final class State {
+        final Node root = new Node();
+        final Node chosungRoot = new Node();
+        final Map<String, Entry> titles = new HashMap<>();
+        final Map<Long, Entry> companies = new HashMap<>();
+        final Map<Long, PostContribution> posts = new HashMap<>();
+
+        // 전체 구성 중에는 상위 목록을 매번 다시 계산하지 않고 마지막에 한 번에 계산
+        boolean deferTop = false;
+
+        void computeAllTops() {
+            computeTop(root);
+            computeTop(chosungRoot);
+            deferTop = false;
+        }
+
+        private static void computeTop(Node node) {
+            for (Node child : node.children.values()) {
+                computeTop(child);
+            }
+            node.top = topOf(node);
+        }
+
+        void putCompany(long companyId, String companyName) {
+            String key = normalize(companyName);
+            if (key.isEmpty()) {
+                return;
+            }
+            Entry entry = new Entry(TYPE_COMPANY, companyName.trim(), key);
+            entry.weight = 1;
+            for (PostContribution post : posts.values()) {
+                if (post.companyId() == companyId) {
+                    entry.weight += post.weight();
+                }
+            }
+            companies.put(companyId, entry);
+            insert(entry);
+        }
+
+        void removeCompany(long companyId) {
+            Entry entry = companies.remove(companyId);
+            if (entry != null) {
+                delete(entry);
+            }
+            List<Long> removed = new ArrayList<>();
+            for (Map.Entry<Long, PostContribution> post : posts.entrySet()) {
+                if (post.getValue().companyId() == companyId) {
+                    removed.add(post.getKey());
+                }
+            }
+            removed.forEach(this::removePost);
+        }
+
+        void putPost(Map<String, Object> row) {
+            long jobPostId = ((Number) row.get("jobPostId")).longValue();
+            long companyId = ((Number) row.get("companyId")).longValue();
+            String title = (String) row.get("jobPostTitle");
+            Number applications = (Number) row.get("applicationCount");
+            long weight = 1 + (applications == null ? 0 : applications.longValue());
+
+            removePost(jobPostId);
+            String key = normalize(title);
+            if (!key.isEmpty()) {
+                Entry entry = titles.get(key);
+                if (entry == null) {
+                    entry = new Entry(TYPE_JOB_TITLE, title.trim(), key);
+                    titles.put(key, entry);
+                    entry.weight = weight;
+                    entry.postCount = 1;
+                    insert(entry);
+                } else {
+                    entry.weight += weight;
+                    entry.postCount++;
+                    reorder(entry);
+                }
+            }
+            addCompanyWeight(companyId, weight);
+            posts.put(jobPostId, new PostContribution(key, companyId, weight));
+        }
+
+        void removePost(long jobPostId) {
+            PostContribution old = posts.remove(jobPostId);
+            if (old == null) {
+                return;
+            }
+            Entry entry = titles.get(old.titleKey());
+            if (entry != null) {
+                entry.weight -= old.weight();
+                entry.postCount--;
+                if (entry.postCount <= 0) {
+                    titles.remove(old.titleKey());
+                    delete(entry);
+                } else {
+                    reorder(entry);
+                }
+            }
+            addCompanyWeight(old.companyId(), -old.weight());
+        }
+
+        private void addCompanyWeight(long companyId, long delta) {
+            Entry company = companies.get(companyId);
+            if (company != null) {
+                company.weight += delta;
+                reorder(company);
+            }
+        }
+
+        private void insert(Entry entry) {
+            for (String key : keysOf(entry.key)) {
+                List<Node> path = path(root, key, true);
+                path.get(path.size() - 1).terminals.add(entry);
+                refreshTop(path);
+
+                if (containsHangul(key)) {
+                    List<Node> chosungPath = path(chosungRoot, toChosung(key), true);
+                    chosungPath.get(chosungPath.size() - 1).terminals.add(entry);
+                    refreshTop(chosungPath);
+                }
+            }
+        }
+
+        private void delete(Entry entry) {
+            for (String key : keysOf(entry.key)) {
+                List<Node> path = path(root, key, false);
+                if (path != null) {
+                    path.get(path.size() - 1).terminals.remove(entry);
+                    refreshTop(path);
+                }
+                List<Node> chosungPath = containsHangul(key) ? path(chosungRoot, toChosung(key), false) : null;
+                if (chosungPath != null) {
+                    chosungPath.get(chosungPath.size() - 1).terminals.remove(entry);
+                    refreshTop(chosungPath);
+                }
+            }
+        }
+
+        // 인기도만 바뀐 경우 (항목이 들어 있는 노드는 모두 키 경로 위에 있다)
+        private void reorder(Entry entry) {
+            for (String key : keysOf(entry.key)) {
+                List<Node> path = path(root, key, false);
+                if (path != null) {
+                    refreshTop(path);
+                }
+                List<Node> chosungPath = containsHangul(key) ? path(chosungRoot, toChosung(key), false) : null;
+                if (chosungPath != null) {
+                    refreshTop(chosungPath);
+                }
+            }
+        }
+
+        // 루트부터 key 끝까지의 노드 (create 가 false 이고 경로가 없으면 null)
+        private static List<Node> path(Node root, String key, boolean create) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                Node child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    if (!create) {
+                        return null;
+                    }
+                    child = new Node();
+                    node.children.put(key.charAt(i), child);
+                }
+                node = child;
+                path.add(node);
+            }
+            return path;
+        }
+
+        // 아래에서부터 위로 상위 목록 재계산 (루트는 빈 검색어를 받지 않으므로 제외)
+        private void refreshTop(List<Node> path) {
+            if (deferTop) {
+                return;
+            }
+            for (int i = path.size() - 1; i >= 1; i--) {
+                path.get(i).top = topOf(path.get(i));
+            }
+        }
+
+        private static List<Entry> topOf(Node node) {
+            Set<Entry> candidates = new LinkedHashSet<>(node.terminals);
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            List<Entry> top = new ArrayList<>(candidates);
+            top.sort(WEIGHT_ORDER);
+            return top.size() > TOP_K ? List.copyOf(top.subList(0, TOP_K)) : List.copyOf(top);
+        }
+    }
+}
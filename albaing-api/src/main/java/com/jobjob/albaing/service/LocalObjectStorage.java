@@ -0,0 +1,58 @@
+package com.jobjob.albaing.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 디스크 저장소 (file.storage=local)
+ * Firebase 없이 업로드 경로 (버퍼 풀, 스트리밍 복사) 를 그대로 돌려 볼 수 있도록 upload-img 경로 아래에 저장하고,
+ * WebConfig 의 /uploaded/** 로 내려준다. 오프라인 개발, 동시 업로드 부하 테스트 (힙 사용량 확인) 용.
+ * 임시 파일 (.part) 에 쓴 뒤 이름을 바꾸므로 실패한 업로드는 남지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    @Value("${upload-img}")
+    private String uploadPath;
+
+    @Override
+    public void store(String name, String contentType, ReadableByteChannel source, ByteBuffer buffer) throws IOException {
+        Path target = resolve(name);
+        Files.createDirectories(target.getParent());
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        try (FileChannel channel = FileChannel.open(part,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ObjectStorage.copy(source, buffer, channel);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public String publicUrl(String name) {
+        return "/uploaded/" + name;
+    }
+
+    private Path resolve(String name) {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path path = root.resolve(name).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + name);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.DailyDigestMail;
+import com.jobjob.albaing.model.vo.JobResultMail;
+import com.jobjob.albaing.model.vo.SavedSearchDigestMail;
+import com.jobjob.albaing.model.vo.VerificationCodeMail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 본문 템플릿 (classpath:templates/mail/*.html, Thymeleaf)
+ * 웹 뷰 설정 (spring.thymeleaf.*, devtools 의 캐시 끄기) 과 상관없이 항상 파싱한 템플릿을 캐시하는 전용 엔진을 쓰고,
+ * 서버 기동 시 모든 템플릿을 한 번씩 렌더링해서 첫 메일부터 파싱 비용이 들지 않게 한다.
+ * 모델은 문자열 조합 대신 타입이 있는 객체 (mail 변수) 로 넘기고, 값은 템플릿에서 HTML 이스케이프된다.
+ * 렌더링 시간은 mail.render{template=...} 지표로 노출한다.
+ */
+@Component
+public class MailTemplates implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailTemplates.class);
+
+    private static final String JOB_RESULT = "job-result";
+    private static final String VERIFICATION_CODE = "verification-code";
+    private static final String SAVED_SEARCH_DIGEST = "saved-search-digest";
+    private static final String DAILY_DIGEST = "daily-digest";
+    private static final List<String> TEMPLATES = List.of(JOB_RESULT, VERIFICATION_CODE, SAVED_SEARCH_DIGEST, DAILY_DIGEST);
+
+    private final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+
+    // 템플릿별 렌더링 시간 (지표 등록 전에는 비어 있음)
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+
+    public MailTemplates() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/mail/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        resolver.setCacheTTLMs(null);   // 만료 없음 (템플릿은 배포 단위로만 바뀜)
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    public String jobResult(JobResultMail mail) {
+        return render(JOB_RESULT, mail);
+    }
+
+    public String verificationCode(VerificationCodeMail mail) {
+        return render(VERIFICATION_CODE, mail);
+    }
+
+    public String savedSearchDigest(SavedSearchDigestMail mail) {
+        return render(SAVED_SEARCH_DIGEST, mail);
+    }
+
+    public String dailyDigest(DailyDigestMail mail) {
+        return render(DAILY_DIGEST, mail);
+    }
+
+    private String render(String template, Object mail) {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("mail", mail);
+        long start = System.nanoTime();
+        try {
+            return templateEngine.process(template, context);
+        } finally {
+            Timer timer = renderTimers.get(template);
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 템플릿 파싱을 미리 해서 캐시에 올림 (템플릿 오류도 기동 시 드러남)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            jobResult(new JobResultMail(0L, "", "", "", true, LocalDate.now()));
+            verificationCode(new VerificationCodeMail("", 0));
+            savedSearchDigest(new SavedSearchDigestMail("", List.of(
+                new SavedSearchDigestMail.Post(0L, "", "", "", LocalDate.now())), 0));
+            dailyDigest(new DailyDigestMail("", List.of(
+                new SavedSearchDigestMail.Post(0L, "", "", "", LocalDate.now())), 0, List.of(
+                new SavedSearchDigestMail.Post(0L, "", "", "", LocalDate.now()))));
+        } catch (Exception e) {
+            logger.error("메일 템플릿 렌더링 실패", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String template : TEMPLATES) {
+            renderTimers.put(template, Timer.builder("mail.render")
+                .tag("template", template)
+                .description("메일 템플릿 렌더링 시간")
+                .register(registry));
+        }
+    }
+}
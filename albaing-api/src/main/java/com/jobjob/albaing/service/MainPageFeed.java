@@ -0,0 +1,222 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.event.CompanyChangedEvent;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메인 페이지 피드 (곧마감 / 신규 / 무작위 / 맞춤 공고)
+ * 마감되지 않은 공고 전체를 마감일 순으로 정렬한 불변 스냅샷을 메모리에 두고 요청마다 DB 를 거치지 않고 응답한다.
+ * 공고 변경 이벤트가 오면 다음 주기(5초)에, 변경이 없어도 1분마다 스냅샷을 새로 만든다.
+ */
+@Component
+public class MainPageFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(MainPageFeed.class);
+
+    private static final long MAX_SNAPSHOT_AGE_MILLIS = 60 * 1000L;
+    private static final int MAX_POOLS = 10_000;
+
+    // 마감일 오름차순, 같은 마감일은 최근 공고 우선
+    private static final Comparator<JobPost> DUE_DATE_ORDER = Comparator
+        .comparing(JobPost::getJobPostDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(JobPost::getJobPostId, Comparator.reverseOrder());
+
+    @Autowired
+    private JobPostMapper jobPostMapper;
+
+    @Autowired
+    private CompanySummaryCache companySummaryCache;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private record Bucket(String location, String duration) {
+    }
+
+    /**
+     * byWorkPlace / byWorkingPeriod 는 스냅샷을 만들 때 미리 나누고,
+     * (근무지, 근무 기간) 조합별 후보 목록은 처음 요청될 때 합쳐서 스냅샷이 바뀔 때까지 재사용한다.
+     */
+    private record Snapshot(List<JobPost> byDueDate,
+                            Map<String, List<JobPost>> byWorkPlace,
+                            Map<String, List<JobPost>> byWorkingPeriod,
+                            Map<Bucket, List<JobPost>> pools,
+                            long loadedAt) {
+
+        static Snapshot of(List<JobPost> byDueDate, long loadedAt) {
+            Map<String, List<JobPost>> byWorkPlace = new HashMap<>();
+            Map<String, List<JobPost>> byWorkingPeriod = new HashMap<>();
+            for (JobPost post : byDueDate) {
+                if (post.getJobPostWorkPlace() != null) {
+                    byWorkPlace.computeIfAbsent(post.getJobPostWorkPlace(), k -> new ArrayList<>()).add(post);
+                }
+                if (post.getJobPostWorkingPeriod() != null) {
+                    byWorkingPeriod.computeIfAbsent(post.getJobPostWorkingPeriod(), k -> new ArrayList<>()).add(post);
+                }
+            }
+            return new Snapshot(byDueDate, byWorkPlace, byWorkingPeriod, new ConcurrentHashMap<>(), loadedAt);
+        }
+
+        // 기존 쿼리의 work_place = location OR working_period = duration 과 같은 후보
+        List<JobPost> pool(String location, String duration) {
+            Bucket bucket = new Bucket(location, duration);
+            List<JobPost> pool = pools.get(bucket);
+            if (pool != null) {
+                return pool;
+            }
+
+            List<JobPost> byLocation = location == null ? List.of() : byWorkPlace.getOrDefault(location, List.of());
+            List<JobPost> byDuration = duration == null ? List.of() : byWorkingPeriod.getOrDefault(duration, List.of());
+            Set<JobPost> merged = Collections.newSetFromMap(new IdentityHashMap<>());
+            merged.addAll(byLocation);
+            merged.addAll(byDuration);
+            pool = List.copyOf(merged);
+
+            if (pools.size() < MAX_POOLS) {
+                pools.put(bucket, pool);
+            }
+            return pool;
+        }
+    }
+
+    // 스냅샷이 한 번이라도 만들어졌는지 여부 (false 면 호출하는 쪽에서 DB 조회를 사용)
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    // 스냅샷의 공고 전체 (마감일 순, 수정 불가. 갱신 직전에 마감된 공고가 있을 수 있음)
+    public List<JobPost> openJobPosts() {
+        return snapshot.byDueDate();
+    }
+
+    // 곧마감: 마감일이 가까운 순
+    public List<JobPost> imminent(int limit) {
+        LocalDate today = LocalDate.now();
+        List<JobPost> result = new ArrayList<>(limit);
+        for (JobPost post : snapshot.byDueDate()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (isOpen(post, today)) {
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    // 신규: 마감일이 먼 순 (기존 쿼리와 같은 기준)
+    public List<JobPost> newest(int limit) {
+        LocalDate today = LocalDate.now();
+        List<JobPost> posts = snapshot.byDueDate();
+        List<JobPost> result = new ArrayList<>(limit);
+        for (ListIterator<JobPost> it = posts.listIterator(posts.size()); it.hasPrevious() && result.size() < limit; ) {
+            JobPost post = it.previous();
+            if (isOpen(post, today)) {
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    // 무작위: 스냅샷에서 중복 없이 limit 건 추출 (ORDER BY RAND() 대신)
+    public List<JobPost> random(int limit) {
+        return sample(snapshot.byDueDate(), limit);
+    }
+
+    // 맞춤: 희망 근무지 또는 희망 근무 기간이 같은 공고 중 무작위 limit 건
+    public List<JobPost> personalized(String location, String duration, int limit) {
+        return sample(snapshot.pool(location, duration), limit);
+    }
+
+    private List<JobPost> sample(List<JobPost> posts, int limit) {
+        LocalDate today = LocalDate.now();
+        int size = posts.size();
+        if (size <= limit) {
+            List<JobPost> result = new ArrayList<>();
+            for (JobPost post : posts) {
+                if (isOpen(post, today)) {
+                    result.add(post);
+                }
+            }
+            Collections.shuffle(result, ThreadLocalRandom.current());
+            return result;
+        }
+
+        // 갱신 직전에 마감된 공고는 건너뛰고, 시도 횟수는 제한해서 한 번에 많이 마감된 경우에도 오래 돌지 않게 한다
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>();
+        List<JobPost> result = new ArrayList<>(limit);
+        for (int attempt = 0; attempt < limit * 8 && result.size() < limit; attempt++) {
+            int index = random.nextInt(size);
+            if (!picked.add(index)) {
+                continue;
+            }
+            JobPost post = posts.get(index);
+            if (isOpen(post, today)) {
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    // 기존 쿼리의 job_post_due_date >= NOW() 와 같은 기준 (DATE 컬럼이므로 오늘 마감은 제외)
+    private static boolean isOpen(JobPost post, LocalDate today) {
+        return post.getJobPostDueDate() != null && post.getJobPostDueDate().isAfter(today);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(initialDelay = 5 * 1000L, fixedDelay = 5 * 1000L)
+    public void scheduledRefresh() {
+        Snapshot current = snapshot;
+        if (dirty.get() || current == null
+            || System.currentTimeMillis() - current.loadedAt() >= MAX_SNAPSHOT_AGE_MILLIS) {
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        // 조회 중에 들어온 변경은 다음 주기에 다시 반영되도록 먼저 내린다
+        dirty.set(false);
+        try {
+            List<JobPost> rows = companySummaryCache.fill(new ArrayList<>(jobPostMapper.selectMainPageFeedJobPosts()));
+            rows.sort(DUE_DATE_ORDER);
+            snapshot = Snapshot.of(Collections.unmodifiableList(rows), System.currentTimeMillis());
+        } catch (Exception e) {
+            dirty.set(true);
+            logger.error("메인 페이지 피드 갱신 실패 - 기존 스냅샷(또는 DB 조회)을 계속 사용합니다.", e);
+        }
+    }
+
+    // 공고 등록/수정/상태 변경 시 다음 주기에 스냅샷 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        dirty.set(true);
+    }
+
+    // 기업명, 로고가 스냅샷의 공고에 들어 있으므로 기업 변경 시에도 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        dirty.set(true);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.VerificationData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 서버 메모리 인증 상태 저장소 (verification.store=memory, 기본)
+ * - 만료 시각 (VerificationData.expiryTime) 별로 1초 단위 timer wheel 칸에 넣어 두고, 매초 지난 칸만 비운다.
+ *   조회하지 않고 버려진 인증번호도 만료 후 1~2초 안에 지워진다.
+ * - 최대 100,000건. 넘으면 가장 먼저 만료될 항목부터 지운다.
+ * 같은 이메일을 다시 저장하면 이전 wheel 항목은 남지만, 만료 처리 시 현재 값과 다르면 건너뛴다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryVerificationStore implements VerificationStore, MeterBinder {
+
+    private static final int MAX_ENTRIES = 100_000;
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 1024;     // 2의 거듭제곱, 한 바퀴 약 17분 (넘는 만료는 다음 바퀴에)
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final ConcurrentHashMap<String, VerificationData> entries = new ConcurrentHashMap<>();
+
+    // wheel 한 칸 (만료 tick 이 이 칸에 해당하는 항목)
+    private final List<Queue<Expiry>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+    // 마지막으로 비운 tick
+    private volatile long processedTick = currentTick();
+
+    private record Expiry(String email, VerificationData data, long tick) {
+    }
+
+    public MemoryVerificationStore() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    @Override
+    public void put(String email, VerificationData data) {
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(email)) {
+            evictSoonest();
+        }
+        entries.put(email, data);
+
+        long expiryMillis = data.getExpiryTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // 이미 지난 tick 이면 다음에 비울 칸에 넣음
+        long tick = Math.max(Math.floorDiv(expiryMillis + TICK_MILLIS - 1, TICK_MILLIS), processedTick + 1);
+        wheel.get((int) (tick & WHEEL_MASK)).add(new Expiry(email, data, tick));
+    }
+
+    @Override
+    public VerificationData get(String email) {
+        VerificationData data = entries.get(email);
+        if (data != null && data.isExpired()) {
+            entries.remove(email, data);
+            return null;
+        }
+        return data;
+    }
+
+    @Override
+    public void remove(String email) {
+        entries.remove(email);
+    }
+
+    // 지난 tick 의 칸을 비움 (이번 바퀴에 만료되지 않는 항목은 다시 넣음)
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public synchronized void advance() {
+        long now = currentTick();
+        long from = Math.max(processedTick + 1, now - WHEEL_SIZE + 1);
+        for (long tick = from; tick <= now; tick++) {
+            Queue<Expiry> slot = wheel.get((int) (tick & WHEEL_MASK));
+            for (int pending = slot.size(); pending > 0; pending--) {
+                Expiry expiry = slot.poll();
+                if (expiry == null) {
+                    break;
+                }
+                if (expiry.tick() <= now) {
+                    entries.remove(expiry.email(), expiry.data());
+                } else {
+                    slot.add(expiry);
+                }
+            }
+        }
+        processedTick = now;
+    }
+
+    // 가장 먼저 만료될 칸부터 비워서 자리 확보
+    private synchronized void evictSoonest() {
+        for (int i = 1; i <= WHEEL_SIZE && entries.size() >= MAX_ENTRIES; i++) {
+            Queue<Expiry> slot = wheel.get((int) ((processedTick + i) & WHEEL_MASK));
+            Expiry expiry;
+            while (entries.size() >= MAX_ENTRIES && (expiry = slot.poll()) != null) {
+                entries.remove(expiry.email(), expiry.data());
+            }
+        }
+    }
+
+    private static long currentTick() {
+        return System.currentTimeMillis() / TICK_MILLIS;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("verification.store.size", entries, ConcurrentHashMap::size)
+            .description("메모리에 저장된 이메일 인증 상태 수")
+            .register(registry);
+    }
+}
@@ -0,0 +1,252 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.NotificationOutbox;
+import com.jobjob.albaing.event.NotificationQueuedEvent;
+import com.jobjob.albaing.mapper.NotificationOutboxMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 발송함 (NOTIFICATION_OUTBOX) 발송기
+ * 지원 상태 변경 요청은 발송함에 기록만 하고, 메일은 여기서 가상 스레드로 보낸다 (SMTP 지연이 API 응답에 포함되지 않음).
+ * - 커밋 직후 (NotificationQueuedEvent) 와 5초마다 발송할 때가 된 알림을 가져와 보낸다.
+ * - 최대 20건씩 묶어서 SMTP 연결 하나로 차례로 보내고, 발송 완료는 묶음 단위로 한 번에 표시한다.
+ * - 실패하면 30초부터 두 배씩 (최대 1시간, ±20% 흔들기) 늦춰서 재시도하고, 6번 실패하면 DEAD 로 둔다.
+ * - 여러 서버가 떠 있어도 claim (PENDING -> SENDING) 에 성공한 서버만 보낸다.
+ *   보내는 도중 서버가 내려가 SENDING 으로 남은 알림은 10분 뒤 다시 대기로 돌리므로 중복 발송될 수 있다.
+ * 발송 결과 수는 notification.outbox{result=sent|retry|dead} 지표로 노출한다.
+ */
+@Component
+public class NotificationOutboxDispatcher implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MESSAGES_PER_CONNECTION = 20;
+    private static final int MAX_CONCURRENT_SENDS = 4;
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long INITIAL_BACKOFF_MILLIS = 30 * 1000L;
+    private static final long MAX_BACKOFF_MILLIS = 60 * 60 * 1000L;
+    private static final long STUCK_MINUTES = 10;
+    private static final long SENT_RETENTION_DAYS = 7;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private NotificationOutboxMapper notificationOutboxMapper;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 동시에 여는 SMTP 연결 수 제한
+    private final Semaphore sendPermits = new Semaphore(MAX_CONCURRENT_SENDS);
+
+    // 한 번에 한 번만 발송함을 비움. 비우는 도중 깨우면 끝난 뒤 한 번 더 비운다.
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeAgain = new AtomicBoolean();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+
+    // 상태 변경이 커밋된 후 바로 발송
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationQueued(NotificationQueuedEvent event) {
+        wake();
+    }
+
+    // 재시도 시각이 된 알림 발송 (스케줄러 스레드는 막지 않고 가상 스레드에서 비움)
+    @Scheduled(initialDelay = 5 * 1000L, fixedDelay = 5 * 1000L)
+    public void wake() {
+        wakeAgain.set(true);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (Exception e) {
+                // 종료 중
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (wakeAgain.getAndSet(false)) {
+                List<NotificationOutbox> due;
+                do {
+                    due = notificationOutboxMapper.selectDue(BATCH_SIZE);
+                    List<NotificationOutbox> chunk = new ArrayList<>(MESSAGES_PER_CONNECTION);
+                    for (NotificationOutbox outbox : due) {
+                        if (notificationOutboxMapper.claim(outbox.getOutboxId()) == 0) {
+                            continue;
+                        }
+                        chunk.add(outbox);
+                        if (chunk.size() == MESSAGES_PER_CONNECTION) {
+                            submit(chunk);
+                            chunk = new ArrayList<>(MESSAGES_PER_CONNECTION);
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        submit(chunk);
+                    }
+                } while (due.size() == BATCH_SIZE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("알림 발송함 확인 실패 (다음 주기에 재시도)", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    // 묶음 하나를 SMTP 연결 하나로 보냄 (동시 연결 수를 넘으면 자리가 날 때까지 기다림)
+    private void submit(List<NotificationOutbox> chunk) throws InterruptedException {
+        sendPermits.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    send(chunk);
+                } finally {
+                    sendPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            sendPermits.release();
+            throw e;
+        }
+    }
+
+    private void send(List<NotificationOutbox> chunk) {
+        List<NotificationOutbox> deliverable = new ArrayList<>(chunk.size());
+        for (NotificationOutbox outbox : chunk) {
+            if (outbox.getUserEmail() == null) {
+                // 탈퇴 등으로 수신자가 없으면 재시도해도 소용없음
+                markFailed(outbox, "DEAD", 0, "수신자 없음");
+                dead.increment();
+            } else {
+                deliverable.add(outbox);
+            }
+        }
+        if (deliverable.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Exception> failures;
+        try {
+            failures = notificationService.deliverJobResultNotifications(deliverable);
+        } catch (Exception e) {
+            failures = new HashMap<>();
+            for (NotificationOutbox outbox : deliverable) {
+                failures.put(outbox.getOutboxId(), e);
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(deliverable.size());
+        for (NotificationOutbox outbox : deliverable) {
+            Exception failure = failures.get(outbox.getOutboxId());
+            if (failure == null) {
+                sentIds.add(outbox.getOutboxId());
+            } else {
+                retryOrGiveUp(outbox, failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            try {
+                notificationOutboxMapper.markSent(sentIds);
+                sent.add(sentIds.size());
+            } catch (Exception e) {
+                // 표시를 못 하면 SENDING 으로 남고, releaseStuck 이 다시 대기로 돌린다 (중복 발송)
+                logger.warn("알림 발송 완료 기록 실패 ({}건)", sentIds.size(), e);
+            }
+        }
+    }
+
+    private void retryOrGiveUp(NotificationOutbox outbox, Exception failure) {
+        int attempt = outbox.getAttemptCount() + 1;
+        String error = truncate(failure.getClass().getSimpleName() + ": " + failure.getMessage());
+        if (attempt >= MAX_ATTEMPTS) {
+            markFailed(outbox, "DEAD", 0, error);
+            dead.increment();
+            logger.warn("알림 발송 포기 (outboxId={}, {}회 실패): {}", outbox.getOutboxId(), attempt, error);
+        } else {
+            markFailed(outbox, "PENDING", backoffMillis(attempt), error);
+            retried.increment();
+        }
+    }
+
+    private void markFailed(NotificationOutbox outbox, String status, long delayMillis, String error) {
+        try {
+            notificationOutboxMapper.markFailed(outbox.getOutboxId(), status, outbox.getAttemptCount() + 1, delayMillis, error);
+        } catch (Exception e) {
+            // 표시를 못 하면 SENDING 으로 남고, releaseStuck 이 다시 대기로 돌린다
+            logger.warn("알림 발송 실패 기록 실패 (outboxId={})", outbox.getOutboxId(), e);
+        }
+    }
+
+    // 지수 백오프 (30초, 1분, 2분 ... 최대 1시간) 에 ±20% 흔들기
+    static long backoffMillis(int attempt) {
+        long base = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(attempt - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (base * jitter);
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // 발송 중에 멈춘 알림을 다시 대기로 돌리고, 오래된 발송 완료 알림을 지움 (기준 시각은 DB 시계)
+    @Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+    public void cleanUp() {
+        try {
+            int released = notificationOutboxMapper.releaseStuck(STUCK_MINUTES);
+            if (released > 0) {
+                logger.warn("발송 중에 멈춘 알림 {}건을 다시 대기로 돌림", released);
+            }
+            notificationOutboxMapper.deleteSent(SENT_RETENTION_DAYS);
+        } catch (Exception e) {
+            logger.warn("알림 발송함 정리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "sent", sent);
+        register(registry, "retry", retried);
+        register(registry, "dead", dead);
+    }
+
+    private static void register(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("notification.outbox", counter, LongAdder::sum)
+            .tag("result", result)
+            .description("알림 발송함 발송 결과 수")
+            .register(registry);
+    }
+}
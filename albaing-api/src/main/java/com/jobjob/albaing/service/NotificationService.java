@@ -1,5 +1,10 @@
 package com.jobjob.albaing.service;
 
+import com.jobjob.albaing.dto.NotificationOutbox;
+
+import java.util.List;
+import java.util.Map;
+
 public interface NotificationService {
     /**
      * 공고 승인 알림 발송
@@ -18,4 +23,11 @@ public interface NotificationService {
      * @return 발송 성공 여부
      */
     boolean sendJobDeniedNotification(Long userId, String jobPostTitle, String companyName);
-}
\ No newline at end of file
+
+    /**
+     * 지원 결과 알림 일괄 발송 (알림 발송함 발송기용, SMTP 연결 하나로 차례로 보냄)
+     * @param notifications 수신자 (userEmail, userName) 가 채워진 알림
+     * @return 발송에 실패한 알림 ID 별 원인 (모두 성공하면 비어 있음)
+     */
+    Map<Long, Exception> deliverJobResultNotifications(List<NotificationOutbox> notifications);
+}
@@ -1,14 +1,23 @@
 package com.jobjob.albaing.service;
 
+import com.jobjob.albaing.dto.NotificationOutbox;
 import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.model.vo.JobResultMail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 서비스 구현체 - 이메일 전용 버전
@@ -16,30 +25,23 @@ import java.time.format.DateTimeFormatter;
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+
     @Autowired
     private JavaMailSender mailSender;
 
     @Autowired
     private UserServiceImpl userService;
 
+    @Autowired
+    private MailTemplates mailTemplates;
+
     /**
      * 공고 합격 알림을 발송합니다.
      */
     @Override
     public boolean sendJobApprovalNotification(Long userId, String jobPostTitle, String companyName) {
-        try {
-            User user = userService.getUserById(userId);
-            if (user == null) return false;
-
-            String title = "[알바잉] 축하합니다! 지원하신 공고에 합격하셨습니다";
-            String content = String.format("%s님, %s의 '%s' 공고에 지원하신 내역이 승인되었습니다. 축하합니다!",
-                user.getUserName(), companyName, jobPostTitle);
-
-            return sendEmail(user.getUserEmail(), title, content, Math.toIntExact(user.getUserId()), "approved");
-        } catch (Exception e) {
-            System.out.println("합격 알림 발송 중 오류 발생: " + e.getMessage());
-            return false;
-        }
+        return sendJobResultNotification(userId, jobPostTitle, companyName, true);
     }
 
     /**
@@ -47,121 +49,86 @@ public class NotificationServiceImpl implements NotificationService {
      */
     @Override
     public boolean sendJobDeniedNotification(Long userId, String jobPostTitle, String companyName) {
+        return sendJobResultNotification(userId, jobPostTitle, companyName, false);
+    }
+
+    /**
+     * 지원 결과 (합격/불합격) 알림 한 건을 바로 발송합니다.
+     */
+    private boolean sendJobResultNotification(Long userId, String jobPostTitle, String companyName, boolean approved) {
         try {
             User user = userService.getUserById(userId);
             if (user == null) return false;
 
-            String title = "[알바잉] 지원하신 공고에 대한 결과 안내";
-            String content = String.format("%s님, %s의 '%s' 공고에 지원하신 내역이 불합격 처리되었습니다. 다음 기회에 다시 도전해보세요!",
-                user.getUserName(), companyName, jobPostTitle);
-
-            return sendEmail(user.getUserEmail(), title, content, Math.toIntExact(user.getUserId()), "denied");
+            mailSender.send(createJobResultEmail(user.getUserEmail(), user.getUserName(), user.getUserId(), jobPostTitle, companyName, approved));
+            return true;
         } catch (Exception e) {
-            System.out.println("불합격 알림 발송 중 오류 발생: " + e.getMessage());
+            logger.warn("{} 알림 발송 중 오류 발생 (userId={})", approved ? "합격" : "불합격", userId, e);
             return false;
         }
     }
 
     /**
-     * 이메일 알림을 발송합니다.
+     * 지원 결과 알림을 SMTP 연결 하나로 차례로 발송합니다.
+     * 수신자 (userEmail, userName) 는 알림 발송함 조회 시 함께 읽어 온 값을 씁니다.
      */
-    private boolean sendEmail(String email, String subject, String messageContent, int userId, String status) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(email);
-            helper.setSubject(subject);
-
-            // 이메일 내용 구성
-            String mypageUrl = "http://localhost:3000/mypage/" + userId;
-            String currentDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일"));
-            String statusColor = "approved".equals(status) ? "#4CAF50" : "#E74C3C";
-            String statusMessage = "approved".equals(status) ? "합격" : "불합격";
-            String statusEmoji = "approved".equals(status) ? "🎉" : "📋";
-            String statusDescription = "approved".equals(status)
-                ? "축하합니다! 상세 정보는 아래 버튼을 클릭하여 확인해주세요."
-                : "아쉽지만 다음 기회에 다시 도전해보세요. 다른 채용 공고도 확인해보세요.";
-            String buttonText = "approved".equals(status) ? "합격 내역 확인하기" : "다른 공고 보기";
-
-            // 공고명과 회사명 추출
-            String jobPostTitle = "지원하신 공고";
-            String companyName = "알바잉 기업";
+    @Override
+    public Map<Long, Exception> deliverJobResultNotifications(List<NotificationOutbox> notifications) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> outboxIds = new IdentityHashMap<>();
+        for (NotificationOutbox outbox : notifications) {
+            String companyName = outbox.getCompanyName();
+            if (companyName == null || companyName.trim().isEmpty()) {
+                companyName = "알바잉 기업";
+            }
             try {
-                // 메시지 내용에서 정보 추출 (형식: "홍길동님, 테스트회사의 '테스트공고' 공고에 지원하신 내역이...")
-                String[] parts = messageContent.split("'");
-                if (parts.length >= 2) {
-                    jobPostTitle = parts[1];
-                }
-                parts = messageContent.split("님, ");
-                if (parts.length >= 2) {
-                    String temp = parts[1];
-                    companyName = temp.split("의 '")[0];
-                }
-            } catch (Exception e) {
-                System.out.println("메시지 내용에서 정보 추출 실패");
+                MimeMessage message = createJobResultEmail(outbox.getUserEmail(), outbox.getUserName(), outbox.getUserId(),
+                    outbox.getJobPostTitle(), companyName, NotificationOutbox.JOB_APPROVED.equals(outbox.getNotificationType()));
+                outboxIds.put(message, outbox.getOutboxId());
+            } catch (MessagingException e) {
+                failures.put(outbox.getOutboxId(), e);
             }
+        }
+        if (outboxIds.isEmpty()) {
+            return failures;
+        }
 
-            // HTML 이메일 템플릿 생성
-            String htmlContent =
-                "<!DOCTYPE html>" +
-                    "<html lang='ko'>" +
-                    "<head>" +
-                    "  <meta charset='UTF-8'>" +
-                    "  <meta name='viewport' content='width=device-width, initial-scale=1.0'>" +
-                    "  <title>알바잉 지원 결과</title>" +
-                    "  <style>" +
-                    "    body { font-family: 'Apple SD Gothic Neo', 'Noto Sans KR', Arial, sans-serif; line-height: 1.6; color: #333; background-color: #f9f9f9; margin: 0; padding: 0; }" +
-                    "    .container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 10px; overflow: hidden; box-shadow: 0 4px 8px rgba(0,0,0,0.05); }" +
-                    "    .header { background-color: " + statusColor + "; padding: 20px; text-align: center; color: white; }" +
-                    "    .header h1 { margin: 0; font-size: 24px; }" +
-                    "    .header p { margin: 5px 0 0; opacity: 0.9; font-size: 16px; }" +
-                    "    .content { padding: 30px; }" +
-                    "    .status-badge { display: inline-block; background-color: " + statusColor + "; color: white; padding: 6px 15px; border-radius: 20px; font-weight: bold; margin-bottom: 15px; }" +
-                    "    .info-box { background-color: #f5f5f5; border-radius: 8px; padding: 20px; margin-bottom: 25px; }" +
-                    "    .info-box p { margin: 0 0 10px; }" +
-                    "    .info-box p:last-child { margin-bottom: 0; }" +
-                    "    .info-box strong { color: #444; }" +
-                    "    .button { display: inline-block; background-color: " + statusColor + "; color: white; text-decoration: none; padding: 12px 25px; border-radius: 5px; font-weight: bold; margin-top: 10px; }" +
-                    "    .footer { background-color: #f1f1f1; padding: 20px; text-align: center; color: #666; font-size: 12px; }" +
-                    "    .emoji { font-size: 32px; margin-bottom: 10px; }" +
-                    "  </style>" +
-                    "</head>" +
-                    "<body>" +
-                    "  <div class='container'>" +
-                    "    <div class='header'>" +
-                    "      <h1>알바잉</h1>" +
-                    "      <p>지원 결과 안내</p>" +
-                    "    </div>" +
-                    "    <div class='content'>" +
-                    "      <div style='text-align: center;'>" +
-                    "        <div class='emoji'>" + statusEmoji + "</div>" +
-                    "        <div class='status-badge'>" + statusMessage + "</div>" +
-                    "      </div>" +
-                    "      <p>" + messageContent + "</p>" +
-                    "      <p>" + statusDescription + "</p>" +
-                    "      <div class='info-box'>" +
-                    "        <p><strong>지원 공고명:</strong> " + jobPostTitle + "</p>" +
-                    "        <p><strong>회사명:</strong> " + companyName + "</p>" +
-                    "        <p><strong>결과 안내일:</strong> " + currentDate + "</p>" +
-                    "      </div>" +
-                    "      <center><a href='" + mypageUrl + "' class='button'>" + buttonText + "</a></center>" +
-                    "    </div>" +
-                    "    <div class='footer'>" +
-                    "      <p>본 메일은 발신 전용으로 회신되지 않습니다.</p>" +
-                    "      <p>© " + LocalDateTime.now().getYear() + " 알바잉. All rights reserved.</p>" +
-                    "    </div>" +
-                    "  </div>" +
-                    "</body>" +
-                    "</html>";
-
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-            System.out.println("이메일 알림 발송 성공: " + email);
-            return true;
-        } catch (MessagingException e) {
-            System.out.println("이메일 알림 발송 실패: " + e.getMessage());
-            return false;
+        try {
+            mailSender.send(outboxIds.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 실패한 메시지만 failedMessages 에 담겨 온다 (연결 실패면 전부)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                outboxIds.values().forEach(outboxId -> failures.put(outboxId, e));
+            }
+            failedMessages.forEach((message, cause) -> {
+                Long outboxId = outboxIds.get(message);
+                if (outboxId != null) {
+                    failures.put(outboxId, cause);
+                }
+            });
+        } catch (MailException e) {
+            outboxIds.values().forEach(outboxId -> failures.put(outboxId, e));
+        }
+        if (failures.isEmpty()) {
+            logger.info("이메일 알림 일괄 발송: {}건", notifications.size());
+        } else {
+            logger.warn("이메일 알림 일괄 발송: {}건 중 {}건 실패", notifications.size(), failures.size());
         }
+        return failures;
+    }
+
+    /**
+     * 지원 결과 알림 메일을 만듭니다.
+     */
+    private MimeMessage createJobResultEmail(String email, String userName, Long userId, String jobPostTitle, String companyName, boolean approved) throws MessagingException {
+        JobResultMail mail = new JobResultMail(userId, userName, jobPostTitle, companyName, approved, LocalDate.now());
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(email);
+        helper.setSubject(mail.getSubject());
+        helper.setText(mailTemplates.jobResult(mail), true);
+        return message;
     }
 }
\ No newline at end of file
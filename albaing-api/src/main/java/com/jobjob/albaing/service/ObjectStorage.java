@@ -0,0 +1,40 @@
+package com.jobjob.albaing.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 업로드 파일 저장소 (file.storage=firebase | local)
+ * 파일 전체를 메모리에 올리지 않고 호출하는 쪽이 준 버퍼 하나로 나눠 읽어서 저장한다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * source 를 끝까지 읽어 name 경로로 저장 (buffer 는 복사에만 쓰고 보관하지 않음)
+     * 도중에 실패하면 일부만 저장된 파일을 남기지 않는다.
+     */
+    void store(String name, String contentType, ReadableByteChannel source, ByteBuffer buffer) throws IOException;
+
+    // 저장한 파일의 공개 주소
+    String publicUrl(String name);
+
+    // buffer 를 가득 채워서 (마지막은 남은 만큼) target 에 씀
+    static void copy(ReadableByteChannel source, ByteBuffer buffer, WritableByteChannel target) throws IOException {
+        boolean eof = false;
+        while (!eof) {
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.jobjob.albaing.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 지역 사전 (시/도 → 시/군/구 트리) 과 근무지 주소 파서
+ * 사전은 classpath 의 regions/region-dictionary.tsv 한 파일에서 읽으므로 외부 API 없이 동작한다.
+ * 상위 지역 코드가 하위 코드의 접두어라서 지역 조건은 코드 일치 / 접두어 비교로 처리할 수 있다.
+ */
+@Component
+public class RegionDictionary {
+
+    private static final String DICTIONARY = "regions/region-dictionary.tsv";
+
+    private static final Pattern DONG = Pattern.compile("^[가-힣0-9]+(동|읍|면|가)$");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,()]+");
+
+    // 지역 트리 노드 (level 1: 시/도, 2: 시/군/구)
+    public record Node(String code, String name, int level, String parentCode, List<Node> children) {
+    }
+
+    // 주소 해석 결과: 사전에서 찾은 가장 하위 지역 코드 + 동/읍/면 이름 (없으면 null)
+    public record ParsedRegion(String code, String dong) {
+
+        // other 가 이 지역 안에 있는지 (코드 접두어 + 동 이름 일치)
+        public boolean covers(String otherCode, String otherDong) {
+            return otherCode != null && otherCode.startsWith(code) && (dong == null || dong.equals(otherDong));
+        }
+    }
+
+    private final Map<String, Node> byCode = new HashMap<>();
+    private final Map<String, Node> sidoByName = new HashMap<>();
+    private final Map<String, List<Node>> sigunguByName = new HashMap<>();
+
+    public RegionDictionary() {
+        load();
+    }
+
+    private void load() {
+        ClassPathResource resource = new ClassPathResource(DICTIONARY);
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                List<String> aliases = columns.length > 2 ? Arrays.asList(columns[2].split(",")) : List.of();
+                addNode(columns[0].trim(), columns[1].trim(), aliases);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지역 사전을 읽을 수 없습니다: " + DICTIONARY, e);
+        }
+    }
+
+    private void addNode(String code, String name, List<String> aliases) {
+        if (code.length() == 2) {
+            Node node = new Node(code, name, 1, null, new ArrayList<>());
+            byCode.put(code, node);
+            sidoByName.put(name, node);
+            for (String alias : aliases) {
+                sidoByName.put(alias.trim(), node);
+            }
+            return;
+        }
+
+        Node parent = byCode.get(code.substring(0, 2));
+        if (parent == null) {
+            throw new IllegalStateException("지역 사전에 상위 지역이 없습니다: " + code);
+        }
+        Node node = new Node(code, name, 2, parent.code(), new ArrayList<>());
+        byCode.put(code, node);
+        parent.children().add(node);
+
+        Set<String> names = new HashSet<>(aliases);
+        names.add(name);
+        // 강남구 -> 강남 (중구 -> 중 처럼 한 글자가 되는 경우는 제외)
+        if (name.length() >= 3) {
+            names.add(name.substring(0, name.length() - 1));
+        }
+        for (String n : names) {
+            sigunguByName.computeIfAbsent(n.trim(), k -> new ArrayList<>()).add(node);
+        }
+    }
+
+    // 주소(또는 지역 검색어) 해석. 사전에 있는 지역을 하나도 찾지 못하면 null
+    public ParsedRegion parse(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String[] tokens = Arrays.stream(SEPARATORS.split(address.trim()))
+            .filter(token -> !token.isEmpty())
+            .toArray(String[]::new);
+        if (tokens.length == 0) {
+            return null;
+        }
+        int i = 0;
+
+        Node sido = sidoByName.get(tokens[0]);
+        if (sido != null) {
+            i++;
+        }
+
+        Node sigungu = null;
+        if (i < tokens.length) {
+            sigungu = findSigungu(tokens[i], sido);
+            if (sigungu != null) {
+                i++;
+                // 일반구가 있는 시 (수원시 영통구) 는 시 단위까지만 코드로 쓴다
+                if (i < tokens.length && tokens[i].endsWith("구") && findSigungu(tokens[i], sido) == null) {
+                    i++;
+                }
+            }
+        }
+        if (sigungu == null && sido != null && sido.children().size() == 1) {
+            sigungu = sido.children().get(0);
+        }
+        if (sigungu == null && sido == null) {
+            return null;
+        }
+
+        String dong = null;
+        if (sigungu != null && i < tokens.length && DONG.matcher(tokens[i]).matches()) {
+            dong = normalizeDong(tokens[i]);
+        }
+        return new ParsedRegion(sigungu != null ? sigungu.code() : sido.code(), dong);
+    }
+
+    // 시/도를 알면 그 안에서, 모르면 전국에서 이름이 하나뿐일 때만 인정 (중구, 서구 등은 시/도가 있어야 함)
+    private Node findSigungu(String token, Node sido) {
+        List<Node> candidates = sigunguByName.get(token);
+        if (candidates == null) {
+            return null;
+        }
+        Node found = null;
+        for (Node candidate : candidates) {
+            if (sido != null && !candidate.parentCode().equals(sido.code())) {
+                continue;
+            }
+            if (found != null && found != candidate) {
+                return null;
+            }
+            found = candidate;
+        }
+        return found;
+    }
+
+    // 행정동 번호는 떼고 비교 (역삼1동 -> 역삼동)
+    private static String normalizeDong(String token) {
+        return token.endsWith("동") ? token.replaceAll("[0-9]", "") : token;
+    }
+
+    public Node node(String code) {
+        return code == null ? null : byCode.get(code);
+    }
+
+    // 코드 자신과 모든 하위 지역 코드
+    public List<String> codesUnder(String code) {
+        Node node = byCode.get(code);
+        if (node == null) {
+            return List.of();
+        }
+        List<String> codes = new ArrayList<>();
+        codes.add(node.code());
+        for (Node child : node.children()) {
+            codes.add(child.code());
+        }
+        return codes;
+    }
+
+    // 시/도 이름 (패싯 표시용)
+    public String sidoName(String code) {
+        Node node = code == null || code.length() < 2 ? null : byCode.get(code.substring(0, 2));
+        return node == null ? null : node.name();
+    }
+}
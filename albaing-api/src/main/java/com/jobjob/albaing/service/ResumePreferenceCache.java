@@ -0,0 +1,70 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.ResumePreference;
+import com.jobjob.albaing.event.ResumeChangedEvent;
+import com.jobjob.albaing.mapper.ResumeMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 이력서 희망 조건 (근무지, 근무 기간) 캐시
+ * 메인 페이지 맞춤 공고 조회마다 이력서 전체(학력, 경력 포함)를 읽지 않도록 두 컬럼만 보관한다.
+ */
+@Component
+public class ResumePreferenceCache {
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 50_000;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    // 이력서가 변경될 때마다 증가. 조회 도중 변경이 있었으면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    // 이력서가 없는 사용자도 preference 가 null 인 채로 저장해서 매번 조회하지 않는다
+    private record Entry(ResumePreference preference, long expiresAt) {
+    }
+
+    // 이력서가 없으면 null
+    public ResumePreference get(int userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && now < entry.expiresAt()) {
+            return entry.preference();
+        }
+
+        long startGeneration = generation.get();
+        ResumePreference preference = resumeMapper.getResumePreferenceByUserId(userId);
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(e -> now >= e.expiresAt());
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        if (generation.get() == startGeneration) {
+            entries.put(userId, new Entry(preference, now + TTL_MILLIS));
+        }
+        return preference;
+    }
+
+    // 커밋 이후에 비워서 변경 전 값이 다시 캐시되지 않게 한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeChanged(ResumeChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.getUserId() != null) {
+            entries.remove(event.getUserId());
+        }
+        if (event.getResumeId() != null) {
+            int resumeId = event.getResumeId();
+            entries.values().removeIf(e -> e.preference() != null && e.preference().getResumeId() == resumeId);
+        }
+    }
+}
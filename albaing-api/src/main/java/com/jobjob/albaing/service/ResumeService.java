@@ -18,6 +18,9 @@ public interface ResumeService {
         // 이력서 조회 (유저아이디)
         Resume getResumeByUserId(int userId);
 
+        // 이력서 희망 조건 (근무지, 근무 기간) 조회 - 캐시 사용
+        ResumePreference getResumePreference(int userId);
+
         int deleteCareer(Integer careerId, int resumeId);
 
         List<ResumeSummary> getAllResumeSummaries();
@@ -2,10 +2,12 @@
 package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.*;
+import com.jobjob.albaing.event.ResumeChangedEvent;
 import com.jobjob.albaing.mapper.ResumeMapper;
 import com.jobjob.albaing.mapper.UserMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,12 @@ public class ResumeServiceImpl implements ResumeService {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private ResumePreferenceCache resumePreferenceCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // 회원가입 시 이력서 생성
     @Override
     public void createResumeForUser(User user) {
@@ -76,6 +84,8 @@ public class ResumeServiceImpl implements ResumeService {
         careerHistory.setCareerJobDescription("");
         careerHistory.setCareerIsCareer("신입");
         resumeMapper.createDefaultCareer(careerHistory);
+
+        eventPublisher.publishEvent(ResumeChangedEvent.ofUser(targetUser.getUserId().intValue()));
     }
 
 
@@ -91,6 +101,7 @@ public class ResumeServiceImpl implements ResumeService {
         try {
             if (resumeUpdateRequest.getResume() != null) {
                 resumeMapper.updateResume(resumeUpdateRequest.getResume());
+                eventPublisher.publishEvent(ResumeChangedEvent.ofResume(resumeUpdateRequest.getResume().getResumeId()));
             }
 
             if (resumeUpdateRequest.getEducationHistory() != null) {
@@ -194,6 +205,11 @@ public class ResumeServiceImpl implements ResumeService {
         return resume;
     }
 
+    @Override
+    public ResumePreference getResumePreference(int userId) {
+        return resumePreferenceCache.get(userId);
+    }
+
     @Override
     public int deleteCareer(Integer careerId, int resumeId) {
         // 삭제 전 검증 로직 추가
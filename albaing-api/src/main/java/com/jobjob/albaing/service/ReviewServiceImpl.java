@@ -17,6 +17,9 @@ public class ReviewServiceImpl implements ReviewService {
     @Autowired
     private ReviewMapper reviewMapper;
 
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
     //특정 회사 전체 리뷰 보여주기
     @Override
     public List<Review> showReviews(long companyId) {
@@ -27,6 +30,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public void addReview(Review review) {
         reviewMapper.addReview(review);
+        dashboardCounters.increment(DashboardCounters.Counter.TOTAL_REVIEWS);
     }
 
     //회사 리뷰 조회
@@ -54,7 +58,7 @@ public class ReviewServiceImpl implements ReviewService {
     //회사 리뷰 삭제
     @Override
     public void deleteReview(long reviewId, long userId) {
-        reviewMapper.deleteReview(reviewId, userId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_REVIEWS, -reviewMapper.deleteReview(reviewId, userId));
     }
 
     //리뷰 댓글 등록
@@ -100,7 +104,7 @@ public class ReviewServiceImpl implements ReviewService {
     // 어드민 리뷰 삭제
     @Override
     public void deleteReviewByAdmin(long reviewId) {
-        reviewMapper.deleteReviewByAdmin(reviewId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_REVIEWS, -reviewMapper.deleteReviewByAdmin(reviewId));
     }
 
     // 어드민 댓글 삭제
@@ -118,7 +122,9 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // 리뷰 삭제
-        return reviewMapper.deleteReviewByCompany(reviewId, companyId) > 0;
+        int deleted = reviewMapper.deleteReviewByCompany(reviewId, companyId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_REVIEWS, -deleted);
+        return deleted > 0;
     }
 
     // 자회사 댓글 삭제
@@ -152,7 +158,7 @@ public class ReviewServiceImpl implements ReviewService {
     // 내가 작성한 리뷰 삭제
     @Override
     public void deleteReviewByUser(long reviewId, long userId) {
-        reviewMapper.deleteReviewByUser(reviewId, userId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_REVIEWS, -reviewMapper.deleteReviewByUser(reviewId, userId));
     }
 
     // 내가 작성한 댓글 삭제
@@ -0,0 +1,237 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.SavedSearchMatch;
+import com.jobjob.albaing.mapper.SavedSearchMapper;
+import com.jobjob.albaing.model.vo.SavedSearchDigestMail;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장한 검색 조건 새 공고 다이제스트 발송
+ * 공고가 등록될 때 기록해 둔 일치 내역 (SAVED_SEARCH_MATCHES) 을 한 시간마다 회원별로 모아 메일 한 통으로 보낸다.
+ * - 한 번에 최대 2000건을 claim_token 으로 가져가므로 여러 서버가 같은 내역을 보내지 않는다.
+ * - 회원 50명분씩 SMTP 연결 하나로 보내고, 실패한 회원의 내역만 대기로 돌려 다음 시간에 다시 보낸다.
+ * - 그사이 마감/비공개/삭제된 공고와 탈퇴한 회원의 내역은 보내지 않고 완료 처리한다.
+ * 발송 결과 수는 saved.search.digest{result=sent|failed|skipped} 지표로 노출한다 (회원 기준).
+ */
+@Component
+public class SavedSearchDigest implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchDigest.class);
+
+    private static final int CLAIM_LIMIT = 2000;
+    private static final int USERS_PER_CONNECTION = 50;
+    private static final int MAX_POSTS = 20;
+    private static final long STUCK_MINUTES = 30;
+    private static final long SENT_RETENTION_DAYS = 7;
+
+    @Autowired
+    private SavedSearchMapper savedSearchMapper;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private MailTemplates mailTemplates;
+
+    // 발송은 스케줄러 스레드를 막지 않도록 가상 스레드에서 하고, 한 번에 하나만 돌림
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void schedule() {
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("saved-search-digest").start(() -> {
+                try {
+                    sendDigests();
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    // 대기 중인 내역을 모두 보낼 때까지 CLAIM_LIMIT 건씩 반복 (발송 실패가 있으면 다음 주기로 미룸)
+    void sendDigests() {
+        try {
+            int claimed;
+            boolean allSent = true;
+            do {
+                String claimToken = UUID.randomUUID().toString();
+                claimed = savedSearchMapper.claimPending(claimToken, CLAIM_LIMIT);
+                if (claimed > 0) {
+                    allSent = sendClaimed(claimToken);
+                }
+            } while (claimed == CLAIM_LIMIT && allSent);
+        } catch (Exception e) {
+            logger.warn("저장한 검색 다이제스트 발송 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    // 가져간 내역 발송 (다시 보낼 회원이 없으면 true)
+    private boolean sendClaimed(String claimToken) {
+        // 회원별로 모음 (selectClaimed 는 회원 순으로 정렬됨)
+        Map<Long, List<SavedSearchMatch>> byUser = new LinkedHashMap<>();
+        for (SavedSearchMatch match : savedSearchMapper.selectClaimed(claimToken)) {
+            byUser.computeIfAbsent(match.getUserId(), k -> new ArrayList<>()).add(match);
+        }
+
+        List<Long> done = new ArrayList<>();
+        boolean allSent = true;
+        Map<MimeMessage, Long> chunk = new IdentityHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (Map.Entry<Long, List<SavedSearchMatch>> entry : byUser.entrySet()) {
+            SavedSearchDigestMail mail = digestOf(entry.getValue(), today);
+            String email = entry.getValue().get(0).getUserEmail();
+            if (mail == null || email == null) {
+                done.add(entry.getKey());
+                skipped.increment();
+                continue;
+            }
+            try {
+                chunk.put(createMessage(email, mail), entry.getKey());
+            } catch (MessagingException e) {
+                // 다시 만들어도 실패하므로 재시도하지 않음
+                logger.warn("저장한 검색 다이제스트 메일 생성 실패: userId={}", entry.getKey(), e);
+                done.add(entry.getKey());
+                failed.increment();
+            }
+            if (chunk.size() == USERS_PER_CONNECTION) {
+                allSent &= send(claimToken, chunk);
+                chunk = new IdentityHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            allSent &= send(claimToken, chunk);
+        }
+        if (!done.isEmpty()) {
+            savedSearchMapper.updateClaimed(claimToken, done, "SENT");
+        }
+        return allSent;
+    }
+
+    // 보낼 공고가 없으면 (모두 마감/비공개/삭제) null
+    private static SavedSearchDigestMail digestOf(List<SavedSearchMatch> matches, LocalDate today) {
+        List<SavedSearchDigestMail.Post> posts = new ArrayList<>();
+        int open = 0;
+        for (SavedSearchMatch match : matches) {
+            boolean isOpen = match.getJobPostTitle() != null
+                && Boolean.TRUE.equals(match.getJobPostStatus())
+                && (match.getJobPostDueDate() == null || !match.getJobPostDueDate().isBefore(today));
+            if (!isOpen) {
+                continue;
+            }
+            open++;
+            if (posts.size() < MAX_POSTS) {
+                posts.add(new SavedSearchDigestMail.Post(match.getJobPostId(), match.getJobPostTitle(),
+                    match.getCompanyName(), match.getJobPostWorkPlace(), match.getJobPostDueDate()));
+            }
+        }
+        if (posts.isEmpty()) {
+            return null;
+        }
+        return new SavedSearchDigestMail(matches.get(0).getUserName(), posts, open - posts.size());
+    }
+
+    private MimeMessage createMessage(String email, SavedSearchDigestMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(email);
+        helper.setSubject(SavedSearchDigestMail.SUBJECT);
+        helper.setText(mailTemplates.savedSearchDigest(mail), true);
+        return message;
+    }
+
+    // 한 SMTP 연결로 보내고 회원별 결과 반영 (실패한 회원은 다음 주기에 다시, 모두 보냈으면 true)
+    private boolean send(String claimToken, Map<MimeMessage, Long> chunk) {
+        Set<Long> failedUsers = new HashSet<>();
+        try {
+            mailSender.send(chunk.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                failedUsers.addAll(chunk.values());
+            }
+            e.getFailedMessages().keySet().forEach(message -> {
+                Long userId = chunk.get(message);
+                if (userId != null) {
+                    failedUsers.add(userId);
+                }
+            });
+            logger.warn("저장한 검색 다이제스트 일부 발송 실패 ({}/{}명)", failedUsers.size(), chunk.size(), e);
+        } catch (MailException e) {
+            failedUsers.addAll(chunk.values());
+            logger.warn("저장한 검색 다이제스트 발송 실패 ({}명)", chunk.size(), e);
+        }
+
+        List<Long> sentUsers = new ArrayList<>();
+        for (Long userId : chunk.values()) {
+            if (!failedUsers.contains(userId)) {
+                sentUsers.add(userId);
+            }
+        }
+        if (!sentUsers.isEmpty()) {
+            savedSearchMapper.updateClaimed(claimToken, sentUsers, "SENT");
+            sent.add(sentUsers.size());
+        }
+        if (!failedUsers.isEmpty()) {
+            savedSearchMapper.updateClaimed(claimToken, failedUsers, "PENDING");
+            failed.add(failedUsers.size());
+        }
+        return failedUsers.isEmpty();
+    }
+
+    // 발송 중에 멈춘 내역을 다시 대기로 돌리고, 오래된 발송 완료 내역을 지움
+    @Scheduled(initialDelay = 5 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void cleanUp() {
+        try {
+            int released = savedSearchMapper.releaseStuck(STUCK_MINUTES);
+            if (released > 0) {
+                logger.warn("발송 중에 멈춘 저장 검색 알림 {}건을 다시 대기로 돌림", released);
+            }
+            savedSearchMapper.deleteSent(SENT_RETENTION_DAYS);
+        } catch (Exception e) {
+            logger.warn("저장한 검색 알림 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "sent", sent);
+        register(registry, "failed", failed);
+        register(registry, "skipped", skipped);
+    }
+
+    private static void register(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("saved.search.digest", counter, LongAdder::sum)
+            .tag("result", result)
+            .description("저장한 검색 다이제스트 발송 결과 수 (회원 기준)")
+            .register(registry);
+    }
+}
@@ -0,0 +1,256 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.SavedSearch;
+import com.jobjob.albaing.mapper.SavedSearchMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장한 검색 조건의 역색인 (percolator)
+ * 새 공고가 등록될 때마다 저장한 검색을 모두 DB 에서 다시 실행하는 대신, 검색 조건을 메모리에 색인해 두고
+ * 공고 하나를 조건들에 거꾸로 맞춰 본다.
+ * - 조건마다 가장 좁은 조건 하나 (키워드 > 지역 > 직군 > 근무 형태) 의 키로만 색인한다.
+ *   키워드는 앞 두 글자 (2-gram) 로 색인하고, 공고 쪽은 제목/근무지/기업명의 모든 1, 2-gram 으로 후보를 찾는다.
+ *   지역 코드는 공고 지역 코드의 모든 접두어로 찾는다.
+ * - 후보는 나머지 조건까지 모두 확인한다 (목록 검색과 같은 기준: 직군/근무 형태 일치, 지역 코드 접두어, 키워드 부분 일치).
+ * 색인은 서버 기동 시 전체 조건으로 만들고, 이 서버에서 저장/삭제하면 바로 반영한다.
+ * 색인은 서버별이라 다른 서버에서 저장한 조건은 1분마다 마지막으로 읽은 ID 이후만 가져와 반영하고,
+ * 다른 서버에서 삭제한 조건과 늦게 커밋되어 건너뛴 조건은 30분마다 전체를 다시 읽어 맞춘다.
+ * 그 사이에는 다른 서버에서 방금 저장한 조건이 알림에서 빠질 수 있다.
+ */
+@Component
+public class SavedSearchIndex implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchIndex.class);
+
+    @Autowired
+    private SavedSearchMapper savedSearchMapper;
+
+    private final Map<Long, Query> queries = new ConcurrentHashMap<>();
+
+    // 색인 키 -> 검색 조건 ID
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    private static final long FULL_SYNC_INTERVAL_MILLIS = 30 * 60 * 1000L;
+
+    private volatile boolean ready;
+
+    // DB 에서 읽은 가장 큰 검색 조건 ID (이 서버에서 저장한 조건은 반영하지 않음)
+    private long maxSeenId;
+    private long lastFullSyncAt;
+
+    // 색인한 검색 조건 (값은 모두 소문자, 없는 조건은 null)
+    private record Query(long savedSearchId, String category, String type, String regionCode, String keyword) {
+
+        static Query of(SavedSearch savedSearch) {
+            return new Query(savedSearch.getSavedSearchId(),
+                normalize(savedSearch.getJobCategory()),
+                normalize(savedSearch.getJobType()),
+                normalize(savedSearch.getRegionCode()),
+                normalize(savedSearch.getKeyword()));
+        }
+
+        boolean isEmpty() {
+            return category == null && type == null && regionCode == null && keyword == null;
+        }
+
+        String key() {
+            if (keyword != null) {
+                return "k:" + keyword.substring(0, Math.min(2, keyword.length()));
+            }
+            if (regionCode != null) {
+                return "r:" + regionCode;
+            }
+            if (category != null) {
+                return "c:" + category;
+            }
+            return "t:" + type;
+        }
+
+        boolean matches(Document doc) {
+            return (category == null || category.equals(doc.category()))
+                && (type == null || type.equals(doc.type()))
+                && (regionCode == null || (doc.regionCode() != null && doc.regionCode().startsWith(regionCode)))
+                && (keyword == null
+                || doc.title().contains(keyword)
+                || doc.workPlace().contains(keyword)
+                || doc.companyName().contains(keyword));
+        }
+    }
+
+    // 맞춰 볼 공고 (값은 모두 소문자)
+    private record Document(String category, String type, String regionCode,
+                            String title, String workPlace, String companyName) {
+
+        static Document of(JobPost jobPost) {
+            return new Document(
+                normalize(jobPost.getJobPostJobCategory()),
+                normalize(jobPost.getJobPostJobType()),
+                normalize(jobPost.getJobPostRegionCode()),
+                text(jobPost.getJobPostTitle()),
+                text(jobPost.getJobPostWorkPlace()),
+                text(jobPost.getCompanyName()));
+        }
+
+        // 이 공고와 일치할 수 있는 조건의 색인 키
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            for (String text : List.of(title, workPlace, companyName)) {
+                for (int i = 0; i < text.length(); i++) {
+                    keys.add("k:" + text.charAt(i));
+                    if (i + 1 < text.length()) {
+                        keys.add("k:" + text.substring(i, i + 2));
+                    }
+                }
+            }
+            if (regionCode != null) {
+                for (int length = 1; length <= regionCode.length(); length++) {
+                    keys.add("r:" + regionCode.substring(0, length));
+                }
+            }
+            if (category != null) {
+                keys.add("c:" + category);
+            }
+            if (type != null) {
+                keys.add("t:" + type);
+            }
+            return keys;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 공고와 일치하는 검색 조건 ID
+    public List<Long> percolate(JobPost jobPost) {
+        Document doc = Document.of(jobPost);
+        Set<Long> candidates = new HashSet<>();
+        for (String key : doc.keys()) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null) {
+                candidates.addAll(ids);
+            }
+        }
+
+        List<Long> matched = new ArrayList<>();
+        for (Long id : candidates) {
+            Query query = queries.get(id);
+            if (query != null && query.matches(doc)) {
+                matched.add(id);
+            }
+        }
+        return matched;
+    }
+
+    public void add(SavedSearch savedSearch) {
+        Query query = Query.of(savedSearch);
+        if (query.isEmpty()) {
+            return;     // 조건 없는 검색은 저장하지 않음 (SavedSearchServiceImpl 에서 거절)
+        }
+        queries.put(query.savedSearchId(), query);
+        postings.computeIfAbsent(query.key(), k -> ConcurrentHashMap.newKeySet()).add(query.savedSearchId());
+    }
+
+    public void remove(long savedSearchId) {
+        Query query = queries.remove(savedSearchId);
+        if (query != null) {
+            postings.computeIfPresent(query.key(), (key, ids) -> {
+                ids.remove(savedSearchId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * 전체 검색 조건 색인
+     * 색인하는 도중 삭제된 조건이 다시 들어갈 수는 있지만, 일치 내역 기록 (insertMatches) 은
+     * 지금 남아 있는 조건만 기록하므로 알림이 나가지는 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (ready) {
+            return;
+        }
+        try {
+            fullSync();
+            ready = true;
+            logger.debug("저장한 검색 조건 색인 ({}건)", queries.size());
+        } catch (Exception e) {
+            logger.warn("저장한 검색 조건 색인 실패 (다음 주기에 재시도, 그동안 새 공고 알림이 기록되지 않음)", e);
+        }
+    }
+
+    // 기동 시 색인에 실패했으면 다시 시도, 색인했으면 다른 서버의 변경 반영
+    @Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+    public synchronized void sync() {
+        if (!ready) {
+            initialize();
+            return;
+        }
+        try {
+            if (System.currentTimeMillis() - lastFullSyncAt >= FULL_SYNC_INTERVAL_MILLIS) {
+                fullSync();
+            } else {
+                savedSearchMapper.scanSavedSearches(maxSeenId, context -> addSeen(context.getResultObject()));
+            }
+        } catch (Exception e) {
+            logger.warn("저장한 검색 조건 색인 동기화 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    // 전체를 다시 읽어서 추가하고, 읽기 전부터 색인에 있었는데 DB 에 없는 조건 (다른 서버에서 삭제) 은 뺀다
+    private void fullSync() {
+        Set<Long> before = new HashSet<>(queries.keySet());
+        Set<Long> seen = new HashSet<>();
+        savedSearchMapper.scanSavedSearches(0, context -> {
+            SavedSearch savedSearch = context.getResultObject();
+            seen.add(savedSearch.getSavedSearchId());
+            addSeen(savedSearch);
+        });
+        before.removeAll(seen);
+        before.forEach(this::remove);
+        lastFullSyncAt = System.currentTimeMillis();
+    }
+
+    private void addSeen(SavedSearch savedSearch) {
+        maxSeenId = Math.max(maxSeenId, savedSearch.getSavedSearchId());
+        add(savedSearch);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static String text(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("saved.search.index.size", queries, Map::size)
+            .description("색인된 저장 검색 조건 수")
+            .register(registry);
+    }
+}
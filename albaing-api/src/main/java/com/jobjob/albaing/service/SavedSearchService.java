@@ -0,0 +1,15 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.SavedSearch;
+
+import java.util.List;
+
+public interface SavedSearchService {
+    SavedSearch saveSearch(long userId, SavedSearch savedSearch);
+    List<SavedSearch> getSavedSearches(long userId);
+    void deleteSavedSearch(long userId, long savedSearchId);
+
+    // 새 공고를 저장한 검색 조건에 맞춰 보고 일치 내역을 발송함에 기록
+    void jobPostCreated(JobPost jobPost);
+}
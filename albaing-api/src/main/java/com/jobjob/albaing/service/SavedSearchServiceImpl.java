@@ -0,0 +1,114 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.SavedSearch;
+import com.jobjob.albaing.mapper.SavedSearchMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchServiceImpl.class);
+
+    private static final int MAX_SAVED_SEARCHES_PER_USER = 20;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    @Autowired
+    private SavedSearchMapper savedSearchMapper;
+
+    @Autowired
+    private SavedSearchIndex savedSearchIndex;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private CompanySummaryCache companySummaryCache;
+
+    @Override
+    public SavedSearch saveSearch(long userId, SavedSearch savedSearch) {
+        savedSearch.setUserId(userId);
+        savedSearch.setJobCategory(blankToNull(savedSearch.getJobCategory()));
+        savedSearch.setJobType(blankToNull(savedSearch.getJobType()));
+        savedSearch.setRegionCode(blankToNull(savedSearch.getRegionCode()));
+        String keyword = blankToNull(savedSearch.getKeyword());
+        savedSearch.setKeyword(keyword == null ? null : keyword.toLowerCase(Locale.ROOT));
+
+        if (savedSearch.getJobCategory() == null && savedSearch.getJobType() == null
+            && savedSearch.getRegionCode() == null && savedSearch.getKeyword() == null) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 입력해주세요.");
+        }
+        if (savedSearch.getKeyword() != null && savedSearch.getKeyword().length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("키워드는 " + MAX_KEYWORD_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+        if (savedSearch.getRegionCode() != null && regionDictionary.node(savedSearch.getRegionCode()) == null) {
+            throw new IllegalArgumentException("잘못된 지역 코드입니다.");
+        }
+        if (savedSearchMapper.countSavedSearchesByUser(userId) >= MAX_SAVED_SEARCHES_PER_USER) {
+            throw new IllegalArgumentException("검색 조건은 " + MAX_SAVED_SEARCHES_PER_USER + "개까지 저장할 수 있습니다.");
+        }
+
+        savedSearch.setCreatedAt(LocalDateTime.now());
+        savedSearchMapper.insertSavedSearch(savedSearch);
+        savedSearchIndex.add(savedSearch);
+        return savedSearch;
+    }
+
+    @Override
+    public List<SavedSearch> getSavedSearches(long userId) {
+        return savedSearchMapper.selectSavedSearchesByUser(userId);
+    }
+
+    @Override
+    public void deleteSavedSearch(long userId, long savedSearchId) {
+        if (savedSearchMapper.deleteSavedSearch(savedSearchId, userId) > 0) {
+            savedSearchIndex.remove(savedSearchId);
+        }
+    }
+
+    /**
+     * 새 공고 알림 기록
+     * 공고 등록은 알림 기록 실패와 상관없이 성공해야 하므로 오류는 기록만 한다.
+     */
+    @Override
+    public void jobPostCreated(JobPost jobPost) {
+        try {
+            if (!savedSearchIndex.isReady()) {
+                logger.warn("저장한 검색 조건 색인 전이라 새 공고 알림을 기록하지 않음: {}", jobPost.getJobPostId());
+                return;
+            }
+            // 키워드는 기업명과도 비교하므로 기업명을 채운 사본으로 맞춰 봄
+            JobPost probe = new JobPost();
+            probe.setJobPostId(jobPost.getJobPostId());
+            probe.setCompanyId(jobPost.getCompanyId());
+            probe.setJobPostTitle(jobPost.getJobPostTitle());
+            probe.setJobPostWorkPlace(jobPost.getJobPostWorkPlace());
+            probe.setJobPostJobCategory(jobPost.getJobPostJobCategory());
+            probe.setJobPostJobType(jobPost.getJobPostJobType());
+            probe.setJobPostRegionCode(jobPost.getJobPostRegionCode());
+            companySummaryCache.fill(probe);
+
+            List<Long> matched = savedSearchIndex.percolate(probe);
+            if (!matched.isEmpty()) {
+                savedSearchMapper.insertMatches(jobPost.getJobPostId(), matched);
+            }
+        } catch (Exception e) {
+            logger.warn("새 공고 알림 기록 실패: {}", jobPost.getJobPostId(), e);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() || "all".equals(trimmed) ? null : trimmed;
+    }
+}
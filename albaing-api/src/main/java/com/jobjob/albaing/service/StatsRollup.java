@@ -0,0 +1,229 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.JobPost;
+import com.jobjob.albaing.dto.StatsRollupRow;
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.mapper.StatsRollupMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자 통계 (직종별/고용형태별 활성 공고, 지역별 회원) 롤업
+ * 통계 조회 때마다 JOB_POSTS, USERS 를 GROUP BY 하지 않도록 쓰기 경로에서 항목별 증감을 모아
+ * 시간 단위 롤업 테이블에 누적하고, 조회는 롤업만 더한다 (DDL: resources/sql/stats_rollup.sql).
+ * - 증감은 메모리에 모았다가 10초마다 한 번에 기록한다.
+ * - 보존 기간 (7일) 이 지난 시간 단위 롤업은 매시간 일 단위 롤업으로 합친다.
+ * - 마감일이 지나 비활성이 된 공고, 롤백이나 일괄 변경으로 생긴 오차는 매일 자정 직후
+ *   원본 집계와 비교해서 차이를 그 시각의 증감으로 기록한다.
+ * - 초기 적재와 보정은 서버 여러 대에서 중복 반영되지 않도록 STATS_ROLLUP_RUNS 에 먼저 기록한 서버만 실행한다.
+ * 롤업 테이블이 없으면 (isReady() == false) 기존 GROUP BY 쿼리를 그대로 쓴다.
+ */
+@Component
+public class StatsRollup {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatsRollup.class);
+
+    private static final int HOURLY_RETENTION_DAYS = 7;
+    private static final String SEED_RUN = "SEED";
+    private static final String RECONCILE_RUN = "RECONCILE:";
+
+    public enum Dimension {
+        JOB_CATEGORY, JOB_TYPE, USER_REGION
+    }
+
+    // 아직 기록하지 않은 증감 (통계 종류, 항목명, 시간 구간별)
+    private record Key(Dimension dimension, String name, LocalDateTime bucketStart) {
+    }
+
+    @Autowired
+    private StatsRollupMapper statsRollupMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 공고 변경 전후로 활성 공고의 직종, 고용형태 증감 (없거나 비활성이면 null 가능)
+    public void jobPostChanged(JobPost before, JobPost after) {
+        LocalDate today = LocalDate.now();
+        if (DashboardCounters.isActive(before, today)) {
+            record(Dimension.JOB_CATEGORY, before.getJobPostJobCategory(), -1);
+            record(Dimension.JOB_TYPE, before.getJobPostJobType(), -1);
+        }
+        if (DashboardCounters.isActive(after, today)) {
+            record(Dimension.JOB_CATEGORY, after.getJobPostJobCategory(), 1);
+            record(Dimension.JOB_TYPE, after.getJobPostJobType(), 1);
+        }
+    }
+
+    // 회원 가입/수정/탈퇴 전후로 지역별 회원 증감 (가입 전, 탈퇴 후는 null)
+    public void userChanged(User before, User after) {
+        record(Dimension.USER_REGION, before == null ? null : regionOf(before.getUserAddress()), -1);
+        record(Dimension.USER_REGION, after == null ? null : regionOf(after.getUserAddress()), 1);
+    }
+
+    private void record(Dimension dimension, String name, long delta) {
+        if (!ready || name == null || name.isEmpty()) {
+            return;
+        }
+        Key key = new Key(dimension, name, LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+        pending.merge(key, delta, Long::sum);
+    }
+
+    // getUserRegionStats 의 SUBSTRING_INDEX(user_address, ' ', 2) 와 같은 지역명
+    static String regionOf(String address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        int first = address.indexOf(' ');
+        int second = first < 0 ? -1 : address.indexOf(' ', first + 1);
+        return second < 0 ? address : address.substring(0, second);
+    }
+
+    /**
+     * 항목별 통계
+     * 기간 (from 이상 to 미만, 둘 다 생략 가능) 이 없으면 현재 건수, 있으면 그 기간의 증감이다.
+     * 일 단위로 합쳐진 구간은 그날 0시가 기간 안에 있을 때 포함된다.
+     */
+    public List<Map<String, Object>> stats(Dimension dimension, LocalDateTime from, LocalDateTime to, Integer limit) {
+        return statsRollupMapper.selectStats(dimension.name(), from, to, limit);
+    }
+
+    // 구간별 증감 추이 (granularity 가 hour 면 시간 단위, 아니면 일 단위)
+    public List<Map<String, Object>> trend(Dimension dimension, LocalDateTime from, LocalDateTime to, String granularity) {
+        return statsRollupMapper.selectTrend(dimension.name(), from, to, "hour".equals(granularity) ? "hour" : "day");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            // 처음이면 현재 집계를 시작점으로 넣음 (동시에 기동한 다른 서버는 적재가 끝날 때까지 기다린 뒤 건너뜀)
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (statsRollupMapper.claimRun(SEED_RUN) == 0 || statsRollupMapper.countRollupRows() != 0) {
+                    return;
+                }
+                LocalDateTime bucketStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+                List<StatsRollupRow> rows = new ArrayList<>();
+                for (Dimension dimension : Dimension.values()) {
+                    for (StatsRollupRow row : statsRollupMapper.selectBaseCounts(dimension.name())) {
+                        rows.add(new StatsRollupRow(bucketStart, dimension.name(), row.getStatName(), row.getStatDelta()));
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    statsRollupMapper.upsertHourly(rows);
+                }
+                logger.info("통계 롤업 초기 적재 완료 ({}개 항목)", rows.size());
+            });
+            ready = true;
+        } catch (Exception e) {
+            logger.warn("통계 롤업을 사용할 수 없음 (stats_rollup.sql 적용 여부 확인), 원본 집계 쿼리를 사용", e);
+        }
+    }
+
+    // 모아둔 증감을 시간 단위 롤업에 기록 (실패하면 되돌려 두고 다음 주기에 재시도)
+    @Scheduled(initialDelay = 10 * 1000L, fixedDelay = 10 * 1000L)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<StatsRollupRow> rows = new ArrayList<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0) {
+                rows.add(new StatsRollupRow(key.bucketStart(), key.dimension().name(), key.name(), delta));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            statsRollupMapper.upsertHourly(rows);
+        } catch (Exception e) {
+            for (StatsRollupRow row : rows) {
+                Key key = new Key(Dimension.valueOf(row.getStatDimension()), row.getStatName(), row.getBucketStart());
+                pending.merge(key, row.getStatDelta(), Long::sum);
+            }
+            logger.warn("통계 롤업 기록 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    // 보존 기간이 지난 시간 단위 롤업을 일 단위로 합침
+    @Scheduled(cron = "0 10 * * * *")
+    public void compact() {
+        if (!ready) {
+            initialize();
+            return;
+        }
+        LocalDateTime before = LocalDate.now().minusDays(HOURLY_RETENTION_DAYS).atStartOfDay();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                statsRollupMapper.compactHourly(before);
+                statsRollupMapper.deleteHourly(before);
+            });
+        } catch (Exception e) {
+            logger.warn("통계 롤업 압축 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * 원본 집계와 롤업 합계의 차이를 현재 구간 증감으로 기록
+     * 마감일이 지난 공고 (쓰기 없이 비활성) 와 롤백, 일괄 변경으로 생긴 오차를 여기서 맞춘다.
+     * 비교 도중 들어온 증감 (다른 서버에서 아직 기록하지 않은 증감 포함) 은 다음 날 보정에서 맞춰진다.
+     * 하루 한 번, 먼저 기록한 서버 한 대만 실행한다.
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+        flush();
+        LocalDateTime bucketStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (statsRollupMapper.claimRun(RECONCILE_RUN + bucketStart.toLocalDate()) == 0) {
+                    return;
+                }
+                List<StatsRollupRow> corrections = new ArrayList<>();
+                for (Dimension dimension : Dimension.values()) {
+                    Map<String, Long> drift = new HashMap<>();
+                    for (StatsRollupRow row : statsRollupMapper.selectBaseCounts(dimension.name())) {
+                        drift.merge(row.getStatName(), row.getStatDelta(), Long::sum);
+                    }
+                    for (StatsRollupRow row : statsRollupMapper.selectRollupTotals(dimension.name())) {
+                        drift.merge(row.getStatName(), -row.getStatDelta(), Long::sum);
+                    }
+                    drift.forEach((name, delta) -> {
+                        if (delta != 0) {
+                            corrections.add(new StatsRollupRow(bucketStart, dimension.name(), name, delta));
+                        }
+                    });
+                }
+                if (!corrections.isEmpty()) {
+                    statsRollupMapper.upsertHourly(corrections);
+                    logger.info("통계 롤업 보정 {}건", corrections.size());
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("통계 롤업 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.jobjob.albaing.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * 추정 메모리(가중치) 기준으로 크기가 제한되는 W-TinyLFU 캐시 (TTL, 적중/실패/퇴출 통계 포함)
+ * - 새 항목은 작은 window(LRU) 에 먼저 들어가고, window 에서 밀려난 항목은
+ *   main 의 가장 오래된 항목보다 최근 조회 빈도가 높을 때만 main 에 들어간다.
+ * - main 은 probation / protected 두 구간의 LRU 로, 두 번 이상 조회된 항목이 protected 로 올라간다.
+ * - window 보다 큰 항목 (행이 많은 목록 결과 등) 은 window 를 거치지 않고 같은 빈도 비교로 바로 main 에 들어간다.
+ *   main 전체보다 큰 항목만 저장하지 않는다.
+ * - 조회 빈도는 count-min sketch (카운터 최대 15) 로 세고, 일정 횟수마다 절반으로 줄여 오래된 인기를 잊는다.
+ * 조회 자체는 락 없이 하고, 순서 갱신은 락을 바로 얻을 수 있을 때만 한다 (바쁠 때는 순서 갱신을 건너뜀).
+ */
+public class TinyLfuCache<K, V> {
+
+    // 빈도 sketch 크기를 정할 때 쓰는 항목 한 건의 평균 가중치 추정치
+    private static final int AVERAGE_WEIGHT = 256;
+
+    private enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int weight;
+        final long expiresAt;
+        Segment segment = Segment.WINDOW;
+
+        Node(K key, V value, int weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long windowMaxWeight;
+    private final long mainMaxWeight;
+    private final long protectedMaxWeight;
+    private final long ttlMillis;
+    private final ToIntFunction<V> weigher;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    // 아래 필드는 모두 lock 안에서만 다룬다 (LinkedHashMap 은 접근 순서 = LRU 순서)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    /**
+     * @param maxWeight 전체 가중치 한도 (window 1%, main 99% 중 protected 80%)
+     * @param ttlMillis 저장 후 유효 시간
+     * @param weigher   항목 가중치 (추정 바이트)
+     */
+    public TinyLfuCache(long maxWeight, long ttlMillis, ToIntFunction<V> weigher) {
+        this.windowMaxWeight = Math.max(1, maxWeight / 100);
+        this.mainMaxWeight = maxWeight - windowMaxWeight;
+        this.protectedMaxWeight = mainMaxWeight * 8 / 10;
+        this.ttlMillis = ttlMillis;
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(maxWeight / AVERAGE_WEIGHT);
+    }
+
+    // 저장된 값 (없거나 만료됐으면 null). 적중/실패 수를 센다.
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node != null && System.currentTimeMillis() < node.expiresAt) {
+            hits.increment();
+            recordAccess(node);
+            return node.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    // 저장된 값 (없거나 만료됐으면 null). 쓰기 경로에서 값을 고칠 때 쓰며 적중/실패 수와 접근 기록에 반영하지 않는다.
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node != null && System.currentTimeMillis() < node.expiresAt ? node.value : null;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, () -> true);
+    }
+
+    /**
+     * condition 이 참일 때만 저장 (condition 은 락 안에서 확인)
+     * 조회 도중 무효화가 있었는지 확인하는 용도로, 확인과 저장 사이에 무효화가 끼어들지 못한다.
+     */
+    public void put(K key, V value, BooleanSupplier condition) {
+        Node<K, V> node = new Node<>(key, value, weigher.applyAsInt(value), System.currentTimeMillis() + ttlMillis);
+        if (node.weight > mainMaxWeight) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!condition.getAsBoolean()) {
+                return;
+            }
+            sketch.increment(key);
+            unlink(data.put(key, node));
+            if (node.weight > windowMaxWeight) {
+                admitToMain(node);
+                return;
+            }
+            window.put(key, node);
+            windowWeight += node.weight;
+            evictFromWindow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+        try {
+            unlink(data.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void removeIf(Predicate<V> filter) {
+        lock.lock();
+        try {
+            for (Iterator<Node<K, V>> it = data.values().iterator(); it.hasNext(); ) {
+                Node<K, V> node = it.next();
+                if (filter.test(node.value)) {
+                    it.remove();
+                    unlink(node);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            windowWeight = 0;
+            probationWeight = 0;
+            protectedWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 적중 시 빈도 기록 + LRU 순서 갱신. 다른 스레드가 락을 잡고 있으면 건너뛴다.
+    private void recordAccess(Node<K, V> node) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(node.key);
+            if (data.get(node.key) != node) {
+                return;
+            }
+            switch (node.segment) {
+                case WINDOW -> window.get(node.key);
+                case PROTECTED -> protectedSegment.get(node.key);
+                case PROBATION -> {
+                    // 두 번째 조회: protected 로 올리고 넘치면 protected 의 가장 오래된 항목을 probation 으로 내린다
+                    probation.remove(node.key);
+                    probationWeight -= node.weight;
+                    node.segment = Segment.PROTECTED;
+                    protectedSegment.put(node.key, node);
+                    protectedWeight += node.weight;
+                    demoteProtected();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // window 에서 밀려난 항목을 main 의 가장 오래된 항목과 빈도로 비교해서 둘 중 하나를 내보낸다
+    private void evictFromWindow() {
+        while (windowWeight > windowMaxWeight) {
+            Node<K, V> candidate = window.values().iterator().next();
+            window.remove(candidate.key);
+            windowWeight -= candidate.weight;
+            admitToMain(candidate);
+        }
+    }
+
+    // candidate 가 main 의 가장 오래된 항목들보다 빈도가 높으면 그 항목들을 내보내고 probation 에 넣는다 (아니면 candidate 를 버림)
+    private void admitToMain(Node<K, V> candidate) {
+        while (probationWeight + protectedWeight + candidate.weight > mainMaxWeight) {
+            Node<K, V> victim = mainVictim();
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                data.remove(candidate.key, candidate);
+                recordEviction(candidate);
+                return;
+            }
+            evict(victim);
+        }
+        candidate.segment = Segment.PROBATION;
+        probation.put(candidate.key, candidate);
+        probationWeight += candidate.weight;
+    }
+
+    private Node<K, V> mainVictim() {
+        if (!probation.isEmpty()) {
+            return probation.values().iterator().next();
+        }
+        if (!protectedSegment.isEmpty()) {
+            return protectedSegment.values().iterator().next();
+        }
+        return null;
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaxWeight) {
+            Node<K, V> oldest = protectedSegment.values().iterator().next();
+            protectedSegment.remove(oldest.key);
+            protectedWeight -= oldest.weight;
+            oldest.segment = Segment.PROBATION;
+            probation.put(oldest.key, oldest);
+            probationWeight += oldest.weight;
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        recordEviction(node);
+    }
+
+    private void recordEviction(Node<K, V> node) {
+        evictions.increment();
+        evictionWeight.add(node.weight);
+    }
+
+    // 세그먼트 목록과 가중치에서 제거 (data 에서는 호출하는 쪽이 제거)
+    private void unlink(Node<K, V> node) {
+        if (node == null) {
+            return;
+        }
+        switch (node.segment) {
+            case WINDOW -> {
+                if (window.remove(node.key, node)) {
+                    windowWeight -= node.weight;
+                }
+            }
+            case PROBATION -> {
+                if (probation.remove(node.key, node)) {
+                    probationWeight -= node.weight;
+                }
+            }
+            case PROTECTED -> {
+                if (protectedSegment.remove(node.key, node)) {
+                    protectedWeight -= node.weight;
+                }
+            }
+        }
+    }
+
+    public long size() {
+        return data.size();
+    }
+
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return windowWeight + probationWeight + protectedWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * actuator /actuator/metrics 에 cache.gets, cache.evictions 등 (Spring 캐시 지표와 같은 이름) 을 cache=name 태그로 등록
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags("cache", name, "result", "hit")
+            .description("캐시 적중 수")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags("cache", name, "result", "miss")
+            .description("캐시 실패 수")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tag("cache", name)
+            .description("용량 초과로 내보낸 항목 수")
+            .register(registry);
+        FunctionCounter.builder("cache.eviction.weight", evictionWeight, LongAdder::sum)
+            .tag("cache", name)
+            .description("용량 초과로 내보낸 항목의 추정 바이트 합")
+            .register(registry);
+        Gauge.builder("cache.size", this, TinyLfuCache::size)
+            .tag("cache", name)
+            .description("캐시 항목 수")
+            .register(registry);
+        Gauge.builder("cache.weight", this, TinyLfuCache::weightedSize)
+            .tag("cache", name)
+            .description("캐시 항목의 추정 바이트 합")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("cache.hit.ratio", this, TinyLfuCache::hitRatio)
+            .tag("cache", name)
+            .description("캐시 적중률 (시작 이후 누적)")
+            .register(registry);
+    }
+
+    /**
+     * count-min sketch (행 4개, 카운터 최대 15, 최솟값을 빈도로 사용)
+     * 기록 횟수가 sampleSize 에 이르면 모든 카운터를 절반으로 줄인다.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] table;
+        private final int mask;
+        private final long sampleSize;
+        private long additions;
+
+        FrequencySketch(long expectedEntries) {
+            int width = Integer.highestOneBit((int) Math.max(64, Math.min(expectedEntries, 1 << 20)) - 1) << 1;
+            this.table = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10L * width;
+        }
+
+        int frequency(Object key) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                min = Math.min(min, table[row][index(key, row)]);
+            }
+            return min;
+        }
+
+        void increment(Object key) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int i = index(key, row);
+                if (table[row][i] < MAX_COUNT) {
+                    table[row][i]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+
+        private int index(Object key, int row) {
+            long hash = (key.hashCode() + SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobjob.albaing.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (용량 capacity, refillPeriod 마다 토큰 하나 충전)
+ * 버킷마다 "토큰이 가득 차는 시각" 하나만 AtomicLong 으로 두고 CAS 로 갱신하므로 (GCRA) 락이 없다.
+ * 가득 찬 버킷은 기본값과 같으므로 evictFull 로 지워도 동작이 바뀌지 않는다.
+ */
+public class TokenBucketLimiter {
+
+    private final int capacity;
+    private final long refillNanos;
+    private final long burstNanos;
+
+    // 키 -> 버킷이 가득 차는 시각 (System.nanoTime 기준)
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(int capacity, Duration refillPeriod) {
+        this.capacity = capacity;
+        this.refillNanos = refillPeriod.toNanos();
+        this.burstNanos = capacity * refillNanos;
+    }
+
+    // 토큰이 있으면 하나 쓰고 true, 없으면 false
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now < 0 ? now : current) + refillNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // 가득 찬 (한동안 쓰지 않은) 버킷 삭제
+    public void evictFull() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -18,10 +18,26 @@ public class UserServiceImpl implements UserService {
     @Autowired
     UserMapper userMapper;
 
+    @Autowired
+    DashboardCounters dashboardCounters;
+
+    @Autowired
+    StatsRollup statsRollup;
+
+    @Autowired
+    ContactBloomFilters contactBloomFilters;
+
 
     @Override
     public void deleteUser(Long userId) {
-        userMapper.deleteUser(userId);
+        User before = userMapper.getUserById(userId);
+        int deleted = userMapper.deleteUser(userId);
+        dashboardCounters.add(DashboardCounters.Counter.TOTAL_USERS, -deleted);
+        if (deleted > 0) {
+            statsRollup.userChanged(before, null);
+        }
+        // 탈퇴한 회원의 리뷰는 FK 로 함께 지워질 수 있으므로 다시 셈
+        dashboardCounters.markStale(DashboardCounters.Counter.TOTAL_REVIEWS);
     }
 
     // 사용자 정보 조회
@@ -39,7 +55,12 @@ public class UserServiceImpl implements UserService {
     // 사용자 정보 수정
     @Override
     public void updateUser(User user) {
+        User before = userMapper.getUserById(user.getUserId());
+        // 이메일, 전화번호가 바뀔 수 있으므로 중복체크 필터에 저장 전후로 추가
+        contactBloomFilters.addUser(user.getUserEmail(), user.getUserPhone());
         userMapper.updateUser(user);
+        contactBloomFilters.addUser(user.getUserEmail(), user.getUserPhone());
+        statsRollup.userChanged(before, user);
     }
 
 
@@ -0,0 +1,163 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.VerificationCodeMail;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이메일 인증번호 메일 발송 대기열
+ * 인증번호 요청은 코드를 저장하고 대기열에 넣기만 하고 바로 응답하며, SMTP 연결과 발송은 작업 스레드 (2개) 가 한다.
+ * - 같은 이메일은 1분에 1번 (연속 3번까지), 같은 IP 는 15초에 1번 (연속 20번까지) 요청할 수 있다.
+ * - 대기열 (1000건) 이 가득 차면 요청을 거절한다.
+ * - 발송 실패는 기록만 하고 재시도하지 않는다 (사용자가 인증번호를 다시 요청하면 됨).
+ * 대기 건수, 발송 시간, 거절 수는 verification.mail.* 지표로 노출한다.
+ */
+@Component
+public class VerificationMailQueue implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationMailQueue.class);
+
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    // 거절 사유 (지표 태그)
+    public enum Rejection {
+        EMAIL, IP, QUEUE_FULL
+    }
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private MailTemplates mailTemplates;
+
+    private final TokenBucketLimiter emailLimiter = new TokenBucketLimiter(3, Duration.ofMinutes(1));
+    private final TokenBucketLimiter ipLimiter = new TokenBucketLimiter(20, Duration.ofSeconds(15));
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        Thread.ofPlatform().name("verification-mail-", 0).daemon(true).factory());
+
+    private final LongAdder[] rejections = new LongAdder[Rejection.values().length];
+
+    // 발송 시간 (지표 등록 전에는 null)
+    private volatile Timer sendSuccess;
+    private volatile Timer sendFailure;
+
+    public VerificationMailQueue() {
+        for (Rejection rejection : Rejection.values()) {
+            rejections[rejection.ordinal()] = new LongAdder();
+        }
+    }
+
+    /**
+     * 인증번호 요청 허용 여부 (이메일, IP 별 토큰을 하나씩 씀)
+     * @return 허용이면 null, 거절이면 사유
+     */
+    public Rejection tryAcquire(String email, String clientIp) {
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            return reject(Rejection.IP);
+        }
+        if (email != null && !emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            return reject(Rejection.EMAIL);
+        }
+        return null;
+    }
+
+    /**
+     * 인증번호 메일을 대기열에 넣음
+     * @return 대기열이 가득 찼으면 false
+     */
+    public boolean enqueue(String email, String code) {
+        try {
+            executor.execute(() -> send(email, code));
+            return true;
+        } catch (RejectedExecutionException e) {
+            reject(Rejection.QUEUE_FULL);
+            return false;
+        }
+    }
+
+    private Rejection reject(Rejection rejection) {
+        rejections[rejection.ordinal()].increment();
+        return rejection;
+    }
+
+    private void send(String email, String code) {
+        long start = System.nanoTime();
+        boolean sent = false;
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+            helper.setTo(email);
+            helper.setSubject(VerificationCodeMail.SUBJECT);
+            helper.setText(mailTemplates.verificationCode(new VerificationCodeMail(code, VerificationServiceImpl.CODE_VALID_MINUTES)), true);
+            mailSender.send(message);
+            sent = true;
+        } catch (Exception e) {
+            logger.warn("인증번호 메일 발송 실패: {}", email, e);
+        } finally {
+            Timer timer = sent ? sendSuccess : sendFailure;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 가득 찬 버킷 정리 (가득 찬 버킷은 새 버킷과 같음)
+    @Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+    public void evictIdleBuckets() {
+        emailLimiter.evictFull();
+        ipLimiter.evictFull();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("verification.mail.queue", executor, e -> e.getQueue().size())
+            .description("발송 대기 중인 인증번호 메일 수")
+            .register(registry);
+        sendSuccess = sendTimer(registry, "success");
+        sendFailure = sendTimer(registry, "failure");
+        for (Rejection rejection : Rejection.values()) {
+            FunctionCounter.builder("verification.mail.rejected", rejections[rejection.ordinal()], LongAdder::sum)
+                .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+                .description("거절된 인증번호 요청 수")
+                .register(registry);
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry registry, String result) {
+        return Timer.builder("verification.mail.send")
+            .tag("result", result)
+            .description("인증번호 메일 발송 시간 (SMTP 연결 포함)")
+            .register(registry);
+    }
+}
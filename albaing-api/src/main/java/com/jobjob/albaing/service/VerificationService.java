@@ -5,6 +5,8 @@ import com.jobjob.albaing.model.vo.VerificationRequest;
 public interface VerificationService {
     String randomCode();
     void sendEmail(String email, String code);
+    // 인증번호 요청 허용 여부 (같은 이메일, 같은 IP 의 요청이 너무 많으면 false)
+    boolean tryAcquireCodeRequest(String email, String clientIp);
     void saveEmailCode(String email, String code);
     boolean verifyCodeWithVO(VerificationRequest request);
     void sendVerificationEmail();
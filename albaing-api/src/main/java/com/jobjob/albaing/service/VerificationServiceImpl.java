@@ -4,27 +4,26 @@ import com.jobjob.albaing.model.vo.VerificationData;
 import com.jobjob.albaing.model.vo.VerificationRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class VerificationServiceImpl implements VerificationService {
 
-    @Autowired
-    private JavaMailSender mailSender;
+    // VerificationData 의 만료 시간과 같음
+    static final int CODE_VALID_MINUTES = 10;
 
     @Autowired
     @Lazy
     AuthServiceImpl authService;
 
-    private final Map<String, VerificationData> verificationStore = new ConcurrentHashMap<>();
+    @Autowired
+    private VerificationMailQueue verificationMailQueue;
+
+    // 이메일 (소문자) -> 인증 상태 (만료된 항목은 저장소가 지움)
+    @Autowired
+    private VerificationStore verificationStore;
 
     @Override
     public String randomCode() {
@@ -33,37 +32,25 @@ public class VerificationServiceImpl implements VerificationService {
         return String.valueOf(randomNum);
     }
 
+    /**
+     * 인증번호 메일 발송 요청 (중복 가입 확인 후 대기열에 넣고 바로 반환, 실제 발송은 VerificationMailQueue)
+     */
     @Override
     public void sendEmail(String email, String code) {
-        // 🔹 1. 이메일 중복 체크 (DB 조회)
-        if (authService.isUserExist(email) || authService.isCompanyExist(email)) { // DB에 이미 존재하는 이메일인지 확인
+        // 🔹 1. 이메일 중복 체크 (Bloom filter + DB 조회, 가입 시 DB 로 다시 확인)
+        if (authService.isEmailRegistered(email)) { // DB에 이미 존재하는 이메일인지 확인
             throw new IllegalArgumentException("이미 가입된 이메일입니다."); // 예외 발생
         }
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(email);
-            helper.setSubject("[알바잉] 이메일 인증번호");
-
-            String content =
-                    "<div style='margin:20px;'>" +
-                            "<h2>알바잉 이메일 인증</h2>" +
-                            "<p>안녕하세요! 알바잉 서비스 이용을 위한 이메일 인증번호입니다.</p>" +
-                            "<div style='padding:10px; font-size:24px; font-weight:bold; background-color:#f4f4f4; border-radius:5px; display:inline-block;'>" +
-                            code +
-                            "</div>" +
-                            "<p>인증번호는 10분간 유효합니다.</p>" +
-                            "<p>감사합니다.</p>" +
-                            "</div>";
-
-            helper.setText(content, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException("VerifiCationServiceImpl : 이메일 전송 중 오류가 발생했습니다: " + e.getMessage(), e);
+        if (!verificationMailQueue.enqueue(email, code)) {
+            throw new IllegalStateException("인증번호 요청이 많습니다. 잠시 후 다시 시도해주세요.");
         }
     }
 
+    @Override
+    public boolean tryAcquireCodeRequest(String email, String clientIp) {
+        return verificationMailQueue.tryAcquire(email, clientIp) == null;
+    }
+
     @Override
     public void saveEmailCode(String email, String code) {
         if (email == null || email.trim().isEmpty()) {
@@ -110,6 +97,7 @@ public class VerificationServiceImpl implements VerificationService {
             verificationStore.put(lowerEmail, data);
         } else {
             data.setVerified(true);
+            verificationStore.put(lowerEmail, data);
         }
     }
 
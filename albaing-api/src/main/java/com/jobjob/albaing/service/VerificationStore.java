@@ -0,0 +1,24 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.VerificationData;
+
+/**
+ * 이메일 인증 상태 저장소 (키는 소문자 이메일)
+ * 구현은 verification.store 설정으로 고른다.
+ * - memory (기본) : 서버 메모리 (MemoryVerificationStore), 서버가 한 대일 때
+ * - jdbc : DB 테이블 (JdbcVerificationStore), 여러 서버가 같은 인증 상태를 봐야 할 때
+ */
+public interface VerificationStore {
+
+    /**
+     * 저장 (같은 이메일이면 덮어씀). 만료 시각은 data.getExpiryTime()
+     */
+    void put(String email, VerificationData data);
+
+    /**
+     * 조회 (없거나 만료됐으면 null)
+     */
+    VerificationData get(String email);
+
+    void remove(String email);
+}
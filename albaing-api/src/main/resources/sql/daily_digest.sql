@@ -0,0 +1,20 @@
+-- 일일 맞춤 공고 다이제스트 발송 기록 (DailyDigest 참고)
+-- 하루에 한 행. 회원 번호 순으로 보내면서 발송을 마친 마지막 회원 번호 (last_user_id) 를 기록해 두므로,
+-- 도중에 서버가 내려가도 다른 서버 (또는 재시작한 서버) 가 그 다음 회원부터 이어서 보낸다.
+-- run_status: RUNNING (발송 중), DONE (완료)
+-- owner_token / lease_until: 지금 보내고 있는 서버와 그 점유 만료 시각 (만료되면 다른 서버가 가져감)
+-- 30일이 지난 기록은 지운다.
+CREATE TABLE DAILY_DIGEST_RUNS
+(
+    digest_date   DATE        PRIMARY KEY,
+    run_status    VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    last_user_id  BIGINT      NOT NULL DEFAULT 0,
+    owner_token   VARCHAR(36) NULL,
+    lease_until   DATETIME    NULL,
+    sent_count    INT         NOT NULL DEFAULT 0,
+    failed_count  INT         NOT NULL DEFAULT 0,
+    skipped_count INT         NOT NULL DEFAULT 0,
+    started_at    DATETIME    NOT NULL,
+    updated_at    DATETIME    NOT NULL,
+    finished_at   DATETIME    NULL
+);
@@ -0,0 +1,12 @@
+-- 이메일 인증 상태 (JdbcVerificationStore, verification.store=jdbc 일 때 사용)
+-- 여러 서버가 같은 인증번호, 인증 완료 여부를 보도록 DB 에 둔다.
+-- 만료된 행은 조회 시 무시하고, 1분마다 나눠서 지운다.
+CREATE TABLE EMAIL_VERIFICATIONS
+(
+    email       VARCHAR(255) PRIMARY KEY,   -- 소문자
+    code        VARCHAR(10)  NULL,          -- 인증 완료만 기록한 경우 NULL
+    expiry_time DATETIME     NOT NULL,
+    verified    BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_email_verifications_expiry ON EMAIL_VERIFICATIONS (expiry_time);
@@ -0,0 +1,8 @@
+-- 채용공고 근무지 지역 코드 (RegionDictionary 참고)
+-- job_post_region_code: 시/도 2자리 또는 시/군/구 5자리, 지역 검색은 접두어(LIKE 'code%')로 비교
+-- 기존 공고는 서버 기동 시 JobPostRegionBackfill 이 채운다.
+ALTER TABLE JOB_POSTS
+    ADD COLUMN job_post_region_code VARCHAR(10) NULL AFTER job_post_work_place,
+    ADD COLUMN job_post_region_dong VARCHAR(50) NULL AFTER job_post_region_code;
+
+CREATE INDEX idx_job_posts_region ON JOB_POSTS (job_post_region_code, job_post_region_dong);
@@ -0,0 +1,22 @@
+-- 알림 발송함 (NotificationOutboxDispatcher 참고)
+-- 지원 상태 변경과 같은 트랜잭션에서 기록하고, 메일은 백그라운드에서 발송한다.
+-- outbox_status: PENDING (대기/재시도 대기), SENDING (발송 중), SENT (발송 완료), DEAD (재시도 한도 초과 또는 수신자 없음)
+-- SENT 는 7일 뒤 지우고, DEAD 는 확인용으로 남긴다.
+CREATE TABLE NOTIFICATION_OUTBOX
+(
+    outbox_id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    notification_type  VARCHAR(30)  NOT NULL,   -- JOB_APPROVED, JOB_DENIED
+    user_id            BIGINT       NOT NULL,
+    job_application_id INT          NULL,
+    job_post_title     VARCHAR(255) NULL,
+    company_name       VARCHAR(255) NULL,
+    outbox_status      VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempt_count      INT          NOT NULL DEFAULT 0,
+    next_attempt_at    DATETIME     NOT NULL,
+    last_error         VARCHAR(500) NULL,
+    created_at         DATETIME     NOT NULL,
+    updated_at         DATETIME     NOT NULL,
+    sent_at            DATETIME     NULL
+);
+
+CREATE INDEX idx_notification_outbox_due ON NOTIFICATION_OUTBOX (outbox_status, next_attempt_at);
@@ -0,0 +1,35 @@
+-- 저장한 채용공고 검색 조건 (SavedSearchIndex 참고)
+-- 조건은 하나 이상 있어야 하고, 지정한 조건은 모두 만족해야 일치한다 (빈 조건은 전체).
+CREATE TABLE SAVED_SEARCHES
+(
+    saved_search_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id         BIGINT       NOT NULL,
+    job_category    VARCHAR(50)  NULL,      -- 직군 (일치)
+    job_type        VARCHAR(50)  NULL,      -- 근무 형태 (일치)
+    region_code     VARCHAR(10)  NULL,      -- 지역 코드 (이 코드로 시작하는 지역)
+    keyword         VARCHAR(50)  NULL,      -- 제목, 근무지, 기업명 부분 일치 (소문자)
+    created_at      DATETIME     NOT NULL
+);
+
+CREATE INDEX idx_saved_searches_user ON SAVED_SEARCHES (user_id);
+
+-- 저장한 검색과 일치한 새 공고 (알림 다이제스트 발송함, SavedSearchDigest 참고)
+-- 같은 회원에게 같은 공고는 한 번만 (여러 검색이 일치해도)
+-- match_status: PENDING (대기), SENDING (발송 중, claim_token 으로 가져간 서버 구분), SENT (발송 완료)
+-- SENT 는 7일 뒤 지운다.
+CREATE TABLE SAVED_SEARCH_MATCHES
+(
+    match_id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    saved_search_id BIGINT      NOT NULL,
+    user_id         BIGINT      NOT NULL,
+    job_post_id     BIGINT      NOT NULL,
+    match_status    VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    claim_token     VARCHAR(36) NULL,
+    claimed_at      DATETIME    NULL,
+    created_at      DATETIME    NOT NULL,
+    sent_at         DATETIME    NULL,
+    UNIQUE KEY uk_saved_search_matches_user_post (user_id, job_post_id)
+);
+
+CREATE INDEX idx_saved_search_matches_status ON SAVED_SEARCH_MATCHES (match_status, match_id);
+CREATE INDEX idx_saved_search_matches_claim ON SAVED_SEARCH_MATCHES (claim_token);
@@ -0,0 +1,31 @@
+-- 관리자 통계 (직종별/고용형태별 활성 공고, 지역별 회원) 롤업 테이블 (StatsRollup 참고)
+-- 값은 누적값이 아니라 해당 구간에 생긴 증감이고, 현재값은 두 테이블의 증감을 모두 더한 값이다.
+-- stat_dimension: JOB_CATEGORY, JOB_TYPE, USER_REGION
+-- 최근 구간은 시간 단위 테이블에 쌓이고, 보존 기간이 지나면 일 단위 테이블로 합쳐진 뒤 지워진다.
+-- 테이블이 비어 있으면 서버 기동 시 현재 집계를 한 번 넣어 시작점을 만든다.
+-- 초기 적재와 매일 보정은 STATS_ROLLUP_RUNS 에 먼저 기록한 서버 한 대만 실행한다.
+CREATE TABLE STATS_ROLLUP_HOURLY
+(
+    bucket_start   DATETIME     NOT NULL,
+    stat_dimension VARCHAR(20)  NOT NULL,
+    stat_name      VARCHAR(100) NOT NULL,
+    stat_delta     BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_dimension, bucket_start, stat_name)
+);
+
+CREATE TABLE STATS_ROLLUP_DAILY
+(
+    bucket_date    DATE         NOT NULL,
+    stat_dimension VARCHAR(20)  NOT NULL,
+    stat_name      VARCHAR(100) NOT NULL,
+    stat_delta     BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_dimension, bucket_date, stat_name)
+);
+
+-- 서버 여러 대 중 한 대만 실행할 작업 기록 (run_key: SEED, RECONCILE:yyyy-MM-dd)
+-- 작업과 같은 트랜잭션에서 넣으므로 작업이 실패하면 기록도 남지 않아 다른 서버가 다시 실행할 수 있다.
+CREATE TABLE STATS_ROLLUP_RUNS
+(
+    run_key    VARCHAR(50) PRIMARY KEY,
+    created_at DATETIME    NOT NULL
+);
@@ -0,0 +1,62 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.EntityVersion;
+import com.jobjob.albaing.event.JobPostChangedEvent;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.JobPostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EntityVersionCacheTests {
+
+	// Long 캐시 범위 (-128 ~ 127) 밖의 ID
+	private static final long JOB_POST_ID = 500;
+	private static final long COMPANY_ID = 1_000;
+
+	private final EntityVersionCache cache = new EntityVersionCache();
+	private final JobPostMapper jobPostMapper = mock(JobPostMapper.class);
+	private final CompanyMapper companyMapper = mock(CompanyMapper.class);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(cache, "jobPostMapper", jobPostMapper);
+		ReflectionTestUtils.setField(cache, "companyMapper", companyMapper);
+		when(jobPostMapper.selectJobPostVersion(JOB_POST_ID)).thenReturn(
+			new EntityVersion(COMPANY_ID, LocalDateTime.of(2025, 1, 1, 0, 0), "Y"),
+			new EntityVersion(COMPANY_ID, LocalDateTime.of(2025, 1, 1, 0, 0), "N"));
+	}
+
+	@Test
+	void cachesJobPostVersion() {
+		EntityVersionCache.Validator first = cache.jobPost(JOB_POST_ID);
+
+		assertEquals(first, cache.jobPost(JOB_POST_ID));
+		verify(jobPostMapper, times(1)).selectJobPostVersion(JOB_POST_ID);
+	}
+
+	@Test
+	void companyWideChangeEvictsJobPostsOfLargeCompanyId() {
+		EntityVersionCache.Validator before = cache.jobPost(JOB_POST_ID);
+
+		cache.onJobPostChanged(JobPostChangedEvent.ofCompany(COMPANY_ID));
+
+		assertNotEquals(before.etag(), cache.jobPost(JOB_POST_ID).etag());
+		verify(jobPostMapper, times(2)).selectJobPostVersion(JOB_POST_ID);
+	}
+
+	@Test
+	void companyWideChangeKeepsOtherCompanies() {
+		cache.jobPost(JOB_POST_ID);
+
+		cache.onJobPostChanged(JobPostChangedEvent.ofCompany(COMPANY_ID + 1));
+
+		cache.jobPost(JOB_POST_ID);
+		verify(jobPostMapper, times(1)).selectJobPostVersion(JOB_POST_ID);
+	}
+}
@@ -0,0 +1,71 @@
+package com.jobjob.albaing.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionDictionaryTests {
+
+	private final RegionDictionary dictionary = new RegionDictionary();
+
+	@Test
+	void parsesFullAddressWithDong() {
+		RegionDictionary.ParsedRegion parsed = dictionary.parse("서울특별시 강남구 역삼1동 123-4");
+
+		assertEquals("11680", parsed.code());
+		assertEquals("역삼동", parsed.dong());
+	}
+
+	@Test
+	void parsesSidoPrefixOnly() {
+		RegionDictionary.ParsedRegion parsed = dictionary.parse("부산광역시");
+
+		assertEquals("26", parsed.code());
+		assertNull(parsed.dong());
+		assertTrue(parsed.covers("26140", null));
+		assertFalse(parsed.covers("11680", null));
+	}
+
+	@Test
+	void parsesAbbreviations() {
+		// 시/도 별칭 + 시/군/구 이름에서 '구' 를 뗀 별칭
+		assertEquals("11680", dictionary.parse("서울 강남").code());
+		assertEquals("11680", dictionary.parse("강남구").code());
+		assertEquals("26", dictionary.parse("부산시").code());
+	}
+
+	@Test
+	void ambiguousSigunguNeedsSido() {
+		// 중구는 여러 시/도에 있으므로 시/도 없이는 해석하지 않음
+		assertNull(dictionary.parse("중구"));
+		assertEquals("11140", dictionary.parse("서울 중구").code());
+	}
+
+	@Test
+	void generalGuUnderCityUsesCityCode() {
+		assertEquals("41110", dictionary.parse("경기도 수원시 영통구 매탄동").code());
+		assertEquals("매탄동", dictionary.parse("경기도 수원시 영통구 매탄동").dong());
+	}
+
+	@Test
+	void sidoWithSingleSigunguResolvesToIt() {
+		assertEquals("36110", dictionary.parse("세종시 어진동").code());
+	}
+
+	@Test
+	void unknownRegionReturnsNull() {
+		assertNull(dictionary.parse("아틀란티스 해저도시"));
+		assertNull(dictionary.parse(""));
+		assertNull(dictionary.parse(null));
+		assertNull(dictionary.parse(" , ( ) "));
+	}
+
+	@Test
+	void codesUnderIncludesChildren() {
+		assertTrue(dictionary.codesUnder("11").contains("11680"));
+		assertEquals(List.of("11680"), dictionary.codesUnder("11680"));
+		assertTrue(dictionary.codesUnder("99").isEmpty());
+	}
+}
@@ -0,0 +1,74 @@
+package com.jobjob.albaing.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TinyLfuCacheTests {
+
+	// 전체 10,000 (window 100, main 9,900), 값 자체를 가중치로 사용
+	private static final long MAX_WEIGHT = 10_000;
+
+	private final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(MAX_WEIGHT, 60_000, value -> value);
+
+	@Test
+	void admitsValueLargerThanWindow() {
+		cache.put("big", 5_000);
+
+		assertEquals(5_000, cache.get("big"));
+		assertEquals(5_000, cache.weightedSize());
+	}
+
+	@Test
+	void evictsLargeValueForMoreFrequentEntries() {
+		cache.put("big", 5_000);
+
+		// 두 번씩 저장해서 big (한 번) 보다 빈도가 높은 작은 항목들로 main 을 넘치게 함
+		for (int i = 0; i < 120; i++) {
+			cache.put("k" + i, 50);
+			cache.put("k" + i, 50);
+		}
+
+		assertNull(cache.get("big"));
+		assertEquals(50, cache.get("k119"));
+		assertTrue(cache.weightedSize() <= MAX_WEIGHT);
+	}
+
+	@Test
+	void keepsFrequentLargeValueOverRareEntries() {
+		cache.put("big", 5_000);
+		for (int i = 0; i < 5; i++) {
+			cache.get("big");
+		}
+
+		for (int i = 0; i < 120; i++) {
+			cache.put("k" + i, 50);
+		}
+
+		assertEquals(5_000, cache.get("big"));
+		assertTrue(cache.weightedSize() <= MAX_WEIGHT);
+	}
+
+	@Test
+	void rejectsValueLargerThanMain() {
+		cache.put("small", 10);
+		cache.put("huge", 9_950);
+
+		assertNull(cache.get("huge"));
+		assertEquals(10, cache.get("small"));
+		assertEquals(10, cache.weightedSize());
+	}
+
+	@Test
+	void replacingLargeValueKeepsWeightConsistent() {
+		cache.put("big", 5_000);
+		cache.put("big", 3_000);
+
+		assertEquals(3_000, cache.get("big"));
+		assertEquals(3_000, cache.weightedSize());
+
+		cache.remove("big");
+		assertNull(cache.get("big"));
+		assertEquals(0, cache.weightedSize());
+	}
+}